@@ -1,28 +1,179 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
     private final RestTemplate restTemplate;
+    private final String weatherApiUrl;
+    private final String fallbackWeather;
+    private final CircuitBreaker circuitBreaker;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter fallbackCounter;
+
+    // 날씨 데이터는 하루에 한 번만 바뀌므로 파싱한 날짜 -> 날씨 맵을 보관하고, 조회 시에는 HTTP 호출 없이 사용
+    private final ReentrantLock fetchLock = new ReentrantLock();
+    private volatile CachedWeather cachedWeather;
+    // 마지막으로 호출에 실패한 시각(epoch millis). 락을 기다리던 스레드가 같은 장애에 다시 호출하지 않도록 사용
+    private volatile long lastFailedAt;
+
+    public WeatherClient(
+            RestTemplate weatherRestTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${weather.api.url:https://f-api.github.io}") String weatherApiUrl,
+            @Value("${weather.fallback:Unknown}") String fallbackWeather,
+            @Value("${weather.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-duration:30s}") Duration openDuration
+    ) {
+        this.restTemplate = weatherRestTemplate;
+        this.weatherApiUrl = weatherApiUrl;
+        this.fallbackWeather = fallbackWeather;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration, Clock.systemDefaultZone());
+
+        this.successTimer = Timer.builder("weather.client.requests").tag("outcome", "success").register(meterRegistry);
+        this.failureTimer = Timer.builder("weather.client.requests").tag("outcome", "failure").register(meterRegistry);
+        this.fallbackCounter = Counter.builder("weather.client.fallbacks").register(meterRegistry);
+        // 0: CLOSED, 1: OPEN, 2: HALF_OPEN
+        Gauge.builder("weather.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .register(meterRegistry);
     }
 
+    // 외부 API 장애로 날씨를 알 수 없으면 일정 등록이 실패하지 않도록 설정된 대체 값을 반환합니다.
     public String getTodayWeather() {
+        LocalDate today = LocalDate.now();
+        Map<String, String> weatherByDate = getCachedWeather(today);
+
+        if (weatherByDate == null) {
+            fallbackCounter.increment();
+            return fallbackWeather;
+        }
+
+        // 받아둔 데이터에 오늘 날짜가 빠져 있어도 일정 등록이 실패하지 않도록 대체 값을 사용
+        String weather = weatherByDate.get(formatDate(today));
+        if (weather == null) {
+            log.warn("오늘({}) 에 해당하는 날씨 데이터가 없어 대체 값을 사용합니다.", formatDate(today));
+            fallbackCounter.increment();
+            return fallbackWeather;
+        }
+        return weather;
+    }
+
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    // 자정 전에 다음 날 데이터를 미리 받아두며, 실패하면 기존 데이터를 계속 사용합니다.
+    @Scheduled(cron = "${weather.refresh-cron:0 50 23 * * *}")
+    public void refresh() {
+        fetchLock.lock();
+        try {
+            cachedWeather = new CachedWeather(fetchWeatherByDate(), LocalDate.now());
+        } catch (RuntimeException e) {
+            log.warn("날씨 데이터 갱신에 실패해 기존 데이터를 계속 사용합니다.", e);
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    // 사용할 수 있는 데이터가 전혀 없으면 null 을 반환합니다.
+    private Map<String, String> getCachedWeather(LocalDate today) {
+        CachedWeather cached = cachedWeather;
+        if (isUsable(cached, today)) {
+            return cached.weatherByDate();
+        }
+
+        // 동시에 캐시 미스가 나도 한 스레드만 호출하고, 나머지는 이전 데이터가 있으면 HTTP 호출을 기다리지 않고 사용
+        long waitStartedAt = System.currentTimeMillis();
+        if (!fetchLock.tryLock()) {
+            if (cached != null) {
+                return cached.weatherByDate();
+            }
+            fetchLock.lock();
+        }
+        try {
+            cached = cachedWeather;
+            if (isUsable(cached, today)) {
+                return cached.weatherByDate();
+            }
+
+            // 기다리는 동안 먼저 호출한 스레드가 실패했으면 다시 호출하지 않고 이전 데이터나 대체 값을 사용
+            if (lastFailedAt >= waitStartedAt) {
+                return cached == null ? null : cached.weatherByDate();
+            }
+
+            try {
+                cachedWeather = new CachedWeather(fetchWeatherByDate(), today);
+                return cachedWeather.weatherByDate();
+            } catch (RuntimeException e) {
+                if (cached == null) {
+                    log.warn("날씨 데이터를 가져오지 못해 대체 값을 사용합니다.", e);
+                    return null;
+                }
+                log.warn("날씨 데이터 갱신에 실패해 {} 에 받아둔 데이터를 사용합니다.", cached.loadedOn(), e);
+                return cached.weatherByDate();
+            }
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    private boolean isUsable(CachedWeather cached, LocalDate today) {
+        return cached != null && !cached.loadedOn().isBefore(today.minusDays(1));
+    }
+
+    private Map<String, String> fetchWeatherByDate() {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new ServerException("날씨 API 장애로 호출이 일시적으로 차단되었습니다.");
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            Map<String, String> weatherByDate = requestWeatherByDate();
+            successTimer.record(Duration.ofNanos(System.nanoTime() - startTime));
+            circuitBreaker.onSuccess();
+            return weatherByDate;
+        } catch (RuntimeException e) {
+            failureTimer.record(Duration.ofNanos(System.nanoTime() - startTime));
+            circuitBreaker.onFailure();
+            lastFailedAt = System.currentTimeMillis();
+            throw e;
+        }
+    }
+
+    private Map<String, String> requestWeatherByDate() {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
@@ -35,28 +186,29 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        Map<String, String> weatherByDate = new HashMap<>();
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+            if (weatherDto.getDate() != null && weatherDto.getWeather() != null) {
+                weatherByDate.put(weatherDto.getDate(), weatherDto.getWeather());
             }
         }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return Map.copyOf(weatherByDate);
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(weatherApiUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
 
-    private String getCurrentDate() {
+    private String formatDate(LocalDate date) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+        return date.format(formatter);
+    }
+
+    private record CachedWeather(Map<String, String> weatherByDate, LocalDate loadedOn) {
     }
 }
@@ -0,0 +1,31 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceConfig {
+
+    // MySQL 드라이버는 기본적으로 배치의 INSERT 를 한 건씩 전송하므로,
+    // 여러 행을 하나의 INSERT ... VALUES (...), (...) 로 합쳐 보내도록 설정
+    // 또 fetchSize 를 무시하고 결과 전체를 메모리에 읽어오므로, fetchSize 를 지정한 조회(일정 내보내기)는
+    // 서버 커서로 fetchSize 만큼씩 나누어 읽도록 설정 (fetchSize 를 지정하지 않은 조회는 기존과 동일)
+    @Bean
+    public static BeanPostProcessor mysqlDriverPropertiesPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+                    dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                    dataSource.addDataSourceProperty("useCursorFetch", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+// 같은 토큰을 매 요청마다 서명 검증/파싱하지 않도록, 검증이 끝난 토큰의 principal 을 토큰 만료 시각까지 보관하는 캐시
+@Component
+public class JwtAuthenticationCache {
+
+    public record VerifiedToken(AuthUser authUser, String jti, Instant expiresAt) {
+    }
+
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> cache;
+
+    public JwtAuthenticationCache(
+            MeterRegistry meterRegistry,
+            @Value("${security.jwt.cache.enabled:true}") boolean enabled,
+            @Value("${security.jwt.cache.maximum-size:100000}") long maximumSize
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return Math.max(0, value.expiresAt().toEpochMilli() - System.currentTimeMillis()) * 1_000_000;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // cache.gets(hit/miss) 지표로 적중률을 확인
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt");
+    }
+
+    // 캐시에 없으면 verifier 로 서명/만료를 검증합니다. 검증 실패 시 verifier 의 예외가 그대로 전파되고,
+    // verifier 가 null 을 반환하면 캐시에 저장하지 않습니다. 폐기 여부는 호출하는 쪽에서 매번 확인해야 합니다.
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        // 원본 토큰 대신 해시를 키로 사용해 메모리에 토큰 문자열이 남지 않도록 함
+        String key = hash(token);
+        VerifiedToken verifiedToken = cache.get(key, k -> verifier.apply(token));
+        if (verifiedToken == null) {
+            return null;
+        }
+
+        // 만료 처리가 지연된 항목은 다시 검증해 만료 예외가 발생하도록 함
+        if (!verifiedToken.expiresAt().isAfter(Instant.now())) {
+            cache.invalidate(key);
+            return verifier.apply(token);
+        }
+        return verifiedToken;
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,6 +25,8 @@ import java.util.List;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -53,15 +56,21 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
+            // JWT 유효성 검사와 claims 추출 (검증된 토큰은 캐시된 principal 을 재사용)
+            JwtAuthenticationCache.VerifiedToken verifiedToken = jwtAuthenticationCache.get(jwt, this::verify);
+            if (verifiedToken == null) {
                 httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
                 return;
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
-            AuthUser authUser = new AuthUser(Long.parseLong(claims.getSubject()), "", (String) claims.get("email"), List.of(userRole::name));
+            // 캐시에 있는 토큰도 로그아웃 등으로 폐기되었을 수 있으므로 매번 확인
+            if (tokenRevocationService.isRevoked(verifiedToken.jti())) {
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다.");
+                return;
+            }
+
+            AuthUser authUser = verifiedToken.authUser();
+
             SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities()));
 
             chain.doFilter(request, response);
@@ -80,6 +89,17 @@ public class JwtFilter implements Filter {
         }
     }
 
+    private JwtAuthenticationCache.VerifiedToken verify(String jwt) {
+        Claims claims = jwtUtil.extractClaims(jwt);
+        if (claims == null) {
+            return null;
+        }
+
+        UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+        AuthUser authUser = new AuthUser(Long.parseLong(claims.getSubject()), "", (String) claims.get("email"), List.of(userRole::name));
+        return new JwtAuthenticationCache.VerifiedToken(authUser, claims.getId(), claims.getExpiration().toInstant());
+    }
+
     @Override
     public void destroy() {
         Filter.super.destroy();
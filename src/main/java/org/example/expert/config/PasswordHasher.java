@@ -0,0 +1,92 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// BCrypt 해싱의 동시 실행 수와 대기 수를 제한하는 limiter.
+// 해싱은 별도 스레드로 넘기지 않고 허가를 얻은 요청 스레드에서 바로 실행해, 해싱이 CPU 코어 수 이상 동시에 돌지 않게 함
+// 허가가 없으면 짧게만 기다리고, 대기 수가 가득 찼거나 timeout 안에 허가를 얻지 못한 요청은 블로킹하지 않고 바로 503 으로 응답
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final Duration timeout;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.bcrypt.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${security.bcrypt.queue-capacity:100}") int maxWaiting,
+            @Value("${security.bcrypt.timeout:500ms}") Duration timeout
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.permits = new Semaphore(threads);
+        this.maxWaiting = maxWaiting;
+        this.timeout = timeout;
+
+        this.rejectedCounter = Counter.builder("bcrypt.rejected").register(meterRegistry);
+        Gauge.builder("bcrypt.active", permits, semaphore -> threads - semaphore.availablePermits()).register(meterRegistry);
+        Gauge.builder("bcrypt.waiting", waiting, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost 가 설정값보다 낮은지 확인 (해시 문자열만 읽으므로 허가 없이 실행)
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Supplier<T> task) {
+        acquire();
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                rejectedCounter.increment();
+                throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("요청 처리가 중단되었습니다.");
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+}
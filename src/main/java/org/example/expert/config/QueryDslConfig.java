@@ -1,5 +1,6 @@
 package org.example.expert.config;
 
+import com.querydsl.jpa.JPQLTemplates;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -12,8 +13,10 @@ public class QueryDslConfig {
     @PersistenceContext
     private EntityManager entityManager;
 
+    // 기본값(HQLTemplates)은 Hibernate 전용 핸들러를 거쳐 같은 조회에서도 할당량이 크게 늘어나므로(TodoListProjectionBenchmarkTest),
+    // Hibernate 전용 문법을 쓰지 않는 이 프로젝트에서는 표준 JPQL 템플릿을 사용
     @Bean
     public JPAQueryFactory jpaQueryFactory() {
-        return new JPAQueryFactory(entityManager);
+        return new JPAQueryFactory(JPQLTemplates.DEFAULT, entityManager);
     }
 }
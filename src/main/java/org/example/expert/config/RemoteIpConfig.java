@@ -0,0 +1,36 @@
+package org.example.expert.config;
+
+import io.micrometer.common.util.StringUtils;
+import org.apache.catalina.valves.RemoteIpValve;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RemoteIpConfig {
+
+    // 로드밸런서 뒤에서는 getRemoteAddr() 가 프록시 주소가 되어 IP 별 rate limit 이 모든 사용자를 하나로 묶으므로,
+    // 신뢰하는 프록시(internal-proxies)에서 온 요청에 한해서만 X-Forwarded-For 의 클라이언트 주소를 사용
+    // (직접 들어온 요청의 X-Forwarded-For 는 무시해 헤더 위조로 rate limit 을 피할 수 없음)
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> remoteIpCustomizer(
+            @Value("${security.remote-ip.internal-proxies:}") String internalProxies,
+            @Value("${security.remote-ip.trusted-proxies:}") String trustedProxies
+    ) {
+        return factory -> {
+            RemoteIpValve valve = new RemoteIpValve();
+            valve.setRemoteIpHeader("X-Forwarded-For");
+            valve.setProtocolHeader("X-Forwarded-Proto");
+            // 비어 있으면 RemoteIpValve 기본값(사설망/루프백 대역)을 사용
+            if (StringUtils.isNotBlank(internalProxies)) {
+                valve.setInternalProxies(internalProxies);
+            }
+            if (StringUtils.isNotBlank(trustedProxies)) {
+                valve.setTrustedProxies(trustedProxies);
+            }
+            factory.addEngineValves(valve);
+        };
+    }
+}
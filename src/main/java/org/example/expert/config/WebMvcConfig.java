@@ -0,0 +1,25 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final Duration asyncRequestTimeout;
+
+    public WebMvcConfig(@Value("${spring.mvc.async.request-timeout:10m}") Duration asyncRequestTimeout) {
+        this.asyncRequestTimeout = asyncRequestTimeout;
+    }
+
+    // 일정 내보내기(StreamingResponseBody)는 비동기 요청으로 처리되어, 서블릿 컨테이너 기본값(30초)이 지나면
+    // 전송 중인 응답이 잘리므로 대용량 내보내기가 끝날 수 있는 시간으로 기본값을 늘림
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+    }
+}
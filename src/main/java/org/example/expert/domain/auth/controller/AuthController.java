@@ -1,14 +1,19 @@
 package org.example.expert.domain.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.dto.request.RefreshTokenRequest;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.service.AuthRateLimiter;
 import org.example.expert.domain.auth.service.AuthService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -16,14 +21,32 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter authRateLimiter;
 
     @PostMapping("/auth/signup")
-    public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest) {
+    public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest, HttpServletRequest request) {
+        authRateLimiter.check(request.getRemoteAddr(), signupRequest.getEmail());
         return authService.signup(signupRequest);
     }
 
     @PostMapping("/auth/signin")
-    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest) {
+    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest, HttpServletRequest request) {
+        authRateLimiter.check(request.getRemoteAddr(), signinRequest.getEmail());
         return authService.signin(signinRequest);
     }
+
+    @PostMapping("/auth/refresh")
+    public SigninResponse refresh(@Valid @RequestBody RefreshTokenRequest refreshTokenRequest, HttpServletRequest request) {
+        authRateLimiter.checkIp(request.getRemoteAddr());
+        return authService.refresh(refreshTokenRequest);
+    }
+
+    @PostMapping("/auth/signout")
+    public ResponseEntity<Void> signout(
+            @RequestHeader("Authorization") String bearerToken,
+            @Valid @RequestBody RefreshTokenRequest refreshTokenRequest
+    ) {
+        authService.signout(bearerToken, refreshTokenRequest);
+        return ResponseEntity.noContent().build();
+    }
 }
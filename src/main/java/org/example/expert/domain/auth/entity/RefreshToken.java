@@ -0,0 +1,38 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+
+import java.time.LocalDateTime;
+
+// 리프레시 토큰은 원문 대신 SHA-256 해시만 저장하고, 한 번 사용하면 폐기한 뒤 새 토큰을 발급(rotation)
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "refresh_tokens", indexes = @Index(name = "idx_refresh_token_user_id", columnList = "user_id"))
+public class RefreshToken extends Timestamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, unique = true, length = 44)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private boolean revoked;
+
+    public RefreshToken(Long userId, String tokenHash, LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+    }
+}
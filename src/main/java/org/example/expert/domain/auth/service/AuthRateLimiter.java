@@ -0,0 +1,69 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.common.util.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+// 인증 API 를 클라이언트 IP 와 이메일 기준으로 제한해, 대입 공격이 DB 조회와 BCrypt 비용을 발생시키기 전에 차단
+@Component
+public class AuthRateLimiter {
+
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter emailLimiter;
+    private final long idleNanos;
+
+    private final Counter ipRejectedCounter;
+    private final Counter emailRejectedCounter;
+
+    public AuthRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${security.rate-limit.ip.capacity:20}") long ipCapacity,
+            @Value("${security.rate-limit.ip.refill-per-minute:60}") long ipRefillPerMinute,
+            @Value("${security.rate-limit.email.capacity:5}") long emailCapacity,
+            @Value("${security.rate-limit.email.refill-per-minute:5}") long emailRefillPerMinute,
+            @Value("${security.rate-limit.stripes:16}") int stripes,
+            @Value("${security.rate-limit.idle-timeout:10m}") Duration idleTimeout
+    ) {
+        this.ipLimiter = new TokenBucketRateLimiter(ipCapacity, ipRefillPerMinute / 60.0, stripes);
+        this.emailLimiter = new TokenBucketRateLimiter(emailCapacity, emailRefillPerMinute / 60.0, stripes);
+
+        // 버킷이 다시 가득 찰 시간보다 먼저 제거하면 제한이 풀리므로 최소한 그 시간만큼은 유지
+        long ipRefillNanos = Duration.ofMinutes(1).toNanos() * ipCapacity / Math.max(1, ipRefillPerMinute);
+        long emailRefillNanos = Duration.ofMinutes(1).toNanos() * emailCapacity / Math.max(1, emailRefillPerMinute);
+        this.idleNanos = Math.max(idleTimeout.toNanos(), Math.max(ipRefillNanos, emailRefillNanos));
+
+        this.ipRejectedCounter = Counter.builder("auth.rate_limit.rejected").tag("key", "ip").register(meterRegistry);
+        this.emailRejectedCounter = Counter.builder("auth.rate_limit.rejected").tag("key", "email").register(meterRegistry);
+        Gauge.builder("auth.rate_limit.buckets", ipLimiter, TokenBucketRateLimiter::size).tag("key", "ip").register(meterRegistry);
+        Gauge.builder("auth.rate_limit.buckets", emailLimiter, TokenBucketRateLimiter::size).tag("key", "email").register(meterRegistry);
+    }
+
+    public void checkIp(String clientIp) {
+        if (!ipLimiter.tryAcquire(clientIp)) {
+            ipRejectedCounter.increment();
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    public void check(String clientIp, String email) {
+        checkIp(clientIp);
+        if (email != null && !emailLimiter.tryAcquire(email.toLowerCase(Locale.ROOT))) {
+            emailRejectedCounter.increment();
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        ipLimiter.evictIdle(idleNanos);
+        emailLimiter.evictIdle(idleNanos);
+    }
+}
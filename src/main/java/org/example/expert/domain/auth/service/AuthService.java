@@ -1,7 +1,12 @@
 package org.example.expert.domain.auth.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordHasher;
+import org.example.expert.domain.auth.dto.request.RefreshTokenRequest;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
@@ -11,27 +16,35 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.example.expert.domain.user.service.EmailFilter;
+import org.example.expert.domain.user.service.NicknameIndex;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+// 해싱(약 100ms)이 트랜잭션 안에서 실행되지 않도록 트랜잭션은 각 repository 호출 단위로만 사용
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final NicknameIndex nicknameIndex;
+    private final EmailFilter emailFilter;
 
-    @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        // filter 에 확실히 없는 이메일은 중복 조회를 생략하고, 그 사이 같은 이메일로 가입한 경우는 유니크 제약으로 막음
+        if (emailFilter.mightExist(signupRequest.getEmail())) {
+            if (userRepository.existsByEmail(signupRequest.getEmail())) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            emailFilter.recordFalsePositive();
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+        String encodedPassword = passwordHasher.encode(signupRequest.getPassword());
 
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
@@ -41,24 +54,74 @@ public class AuthService {
                 userRole,
                 signupRequest.getNickname()
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 제약 위반까지 이메일 중복으로 감추지 않도록, 실제로 같은 이메일이 저장되어 있을 때만 변환
+            if (userRepository.existsByEmail(signupRequest.getEmail())) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            throw e;
+        }
+        emailFilter.add(savedUser.getEmail());
+        nicknameIndex.add(savedUser.getId(), savedUser.getNickname());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getNickname());
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshTokenService.issue(savedUser.getId()));
     }
 
     public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
-                () -> new InvalidRequestException("가입되지 않은 유저입니다."));
+        if (!emailFilter.mightExist(signinRequest.getEmail())) {
+            throw new InvalidRequestException("가입되지 않은 유저입니다.");
+        }
+
+        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(() -> {
+            emailFilter.recordFalsePositive();
+            return new InvalidRequestException("가입되지 않은 유저입니다.");
+        });
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 이전 cost 로 저장된 해시는 평문을 알고 있는 로그인 시점에 현재 cost 로 다시 해싱
+        if (passwordHasher.upgradeEncoding(user.getPassword())) {
+            userRepository.updatePassword(user.getId(), user.getPassword(), passwordHasher.encode(signinRequest.getPassword()));
+        }
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname());
+
+        return new SigninResponse(bearerToken, refreshTokenService.issue(user.getId()));
+    }
+
+    // 비밀번호 확인 없이 리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급 (사용한 리프레시 토큰은 폐기)
+    public SigninResponse refresh(RefreshTokenRequest refreshTokenRequest) {
+        Long userId = refreshTokenService.consume(refreshTokenRequest.getRefreshToken());
+        User user = userRepository.findById(userId).orElseThrow(
+                () -> new AuthException("가입되지 않은 유저입니다."));
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname());
 
-        return new SigninResponse(bearerToken);
+        return new SigninResponse(bearerToken, refreshTokenService.issue(user.getId()));
+    }
+
+    // 리프레시 토큰을 폐기하고, 남은 유효 기간 동안 액세스 토큰이 쓰이지 않도록 jti 를 폐기 목록에 등록
+    public void signout(String bearerToken, RefreshTokenRequest refreshTokenRequest) {
+        Claims claims;
+        try {
+            claims = jwtUtil.extractClaims(jwtUtil.substringToken(bearerToken));
+            tokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
+        } catch (ExpiredJwtException e) {
+            // 이미 만료된 액세스 토큰은 폐기할 필요가 없지만, 리프레시 토큰 소유자 확인에는 서명이 검증된 claims 를 사용
+            claims = e.getClaims();
+        } catch (JwtException e) {
+            throw new AuthException("유효하지 않는 JWT 토큰입니다.");
+        }
+
+        // 다른 유저의 리프레시 토큰은 폐기할 수 없도록 액세스 토큰의 유저와 같은지 확인
+        refreshTokenService.revoke(refreshTokenRequest.getRefreshToken(), Long.parseLong(claims.getSubject()));
     }
 }
@@ -0,0 +1,90 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration expiration;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${jwt.refresh-token.expiration:14d}") Duration expiration
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.expiration = expiration;
+    }
+
+    // 원문은 응답으로만 내려주고 DB 에는 해시만 저장
+    @Transactional
+    public String issue(Long userId) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(userId, hash(rawToken), LocalDateTime.now().plus(expiration)));
+        return rawToken;
+    }
+
+    // 토큰을 폐기하고 소유자 id 를 반환합니다. 이미 사용된 토큰이 다시 들어오면 탈취로 보고 해당 유저의 토큰을 모두 폐기
+    @Transactional(noRollbackFor = AuthException.class)
+    public Long consume(String rawToken) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new AuthException("유효하지 않은 리프레시 토큰입니다."));
+
+        if (refreshToken.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new AuthException("만료된 리프레시 토큰입니다.");
+        }
+
+        if (refreshToken.isRevoked() || refreshTokenRepository.revoke(refreshToken.getId()) == 0) {
+            refreshTokenRepository.revokeAllByUserId(refreshToken.getUserId());
+            throw new AuthException("이미 사용된 리프레시 토큰입니다.");
+        }
+        return refreshToken.getUserId();
+    }
+
+    @Transactional
+    public void revoke(String rawToken, Long userId) {
+        Optional<RefreshToken> refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken));
+        if (refreshToken.isEmpty()) {
+            return;
+        }
+
+        if (!refreshToken.get().getUserId().equals(userId)) {
+            throw new AuthException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        refreshTokenRepository.revoke(refreshToken.get().getId());
+    }
+
+    @Transactional
+    @Scheduled(cron = "${jwt.refresh-token.cleanup-cron:0 0 5 * * *}")
+    public void deleteExpired() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
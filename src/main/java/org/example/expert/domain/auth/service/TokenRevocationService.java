@@ -0,0 +1,77 @@
+package org.example.expert.domain.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.entity.RevokedToken;
+import org.example.expert.domain.auth.repository.RevokedTokenRepository;
+import org.example.expert.domain.common.util.BloomFilter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 폐기된 액세스 토큰(jti)을 메모리의 Bloom filter 로 확인해, 대부분의 요청은 DB 조회 없이 통과시킴
+// filter 에 걸린 경우(실제 폐기 또는 오탐)에만 revoked_tokens 테이블에서 확인
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+    private static final int MIN_EXPECTED_INSERTIONS = 10_000;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Set<String> pendingJtis = ConcurrentHashMap.newKeySet();
+    private volatile BloomFilter revokedJtis = new BloomFilter(MIN_EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository) {
+        this.revokedTokenRepository = revokedTokenRepository;
+    }
+
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        revokedTokenRepository.save(new RevokedToken(jti, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+
+        // 다시 읽는 중에 추가된 jti 가 새 filter 에서 빠지지 않도록 다음 reload 까지 보관
+        pendingJtis.add(jti);
+        BloomFilter current = revokedJtis;
+        current.put(jti);
+        if (current != revokedJtis) {
+            revokedJtis.put(jti);
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !revokedJtis.mightContain(jti)) {
+            return false;
+        }
+        return revokedTokenRepository.existsById(jti);
+    }
+
+    // 다른 인스턴스에서 폐기한 토큰을 반영하고, 만료된 jti 를 정리하면서 filter 를 다시 만듦
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jwt.revocation.reload-interval:PT30S}", initialDelayString = "${jwt.revocation.reload-interval:PT30S}")
+    public void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.deleteExpired(now);
+
+        Set<String> loadedPendingJtis = new HashSet<>(pendingJtis);
+        List<String> jtis = revokedTokenRepository.findActiveJtis(now);
+
+        BloomFilter reloaded = new BloomFilter(Math.max(MIN_EXPECTED_INSERTIONS, jtis.size() * 2L), FALSE_POSITIVE_RATE);
+        jtis.forEach(reloaded::put);
+        pendingJtis.forEach(reloaded::put);
+        revokedJtis = reloaded;
+        pendingJtis.removeAll(loadedPendingJtis);
+
+        log.debug("revoked token filter reloaded - active : {}", jtis.size());
+    }
+}
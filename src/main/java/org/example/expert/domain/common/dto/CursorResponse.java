@@ -0,0 +1,31 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public CursorResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    // size + 1 건을 조회한 결과를 받아 다음 페이지 존재 여부와 다음 커서를 계산합니다.
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, String> cursorExtractor) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorExtractor.apply(content.get(content.size() - 1)) : null;
+
+        return new CursorResponse<>(content, size, hasNext, nextCursor);
+    }
+}
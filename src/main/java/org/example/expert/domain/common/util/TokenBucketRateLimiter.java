@@ -0,0 +1,78 @@
+package org.example.expert.domain.common.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+// 키별 token bucket. 버킷은 여러 개의 ConcurrentHashMap 으로 나누어(striping) 보관하고,
+// 토큰 차감은 락 없이 CAS 로 처리합니다. 오래 사용되지 않은 버킷은 evictIdle 로 정리합니다.
+public class TokenBucketRateLimiter {
+
+    private record State(double tokens, long refilledAt) {
+    }
+
+    private final ConcurrentHashMap<String, AtomicReference<State>>[] stripes;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoTime;
+
+    public TokenBucketRateLimiter(long capacity, double tokensPerSecond, int stripeCount) {
+        this(capacity, tokensPerSecond, stripeCount, System::nanoTime);
+    }
+
+    // 테스트에서 시간을 직접 조절할 수 있도록 시계를 주입받음
+    @SuppressWarnings("unchecked")
+    public TokenBucketRateLimiter(long capacity, double tokensPerSecond, int stripeCount, LongSupplier nanoTime) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ConcurrentHashMap[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000.0;
+        this.nanoTime = nanoTime;
+    }
+
+    public boolean tryAcquire(String key) {
+        long now = nanoTime.getAsLong();
+        AtomicReference<State> bucket = stripe(key)
+                .computeIfAbsent(key, k -> new AtomicReference<>(new State(capacity, now)));
+
+        while (true) {
+            State current = bucket.get();
+            double refilled = Math.min(capacity, current.tokens() + Math.max(0, now - current.refilledAt()) * tokensPerNano);
+            if (refilled < 1) {
+                return false;
+            }
+
+            if (bucket.compareAndSet(current, new State(refilled - 1, Math.max(now, current.refilledAt())))) {
+                return true;
+            }
+        }
+    }
+
+    // 마지막 사용 후 idleNanos 가 지나 토큰이 다시 가득 찼을 버킷은 새로 만든 버킷과 같으므로 제거
+    public int evictIdle(long idleNanos) {
+        long now = nanoTime.getAsLong();
+        int evicted = 0;
+        for (ConcurrentHashMap<String, AtomicReference<State>> stripe : stripes) {
+            int before = stripe.size();
+            stripe.values().removeIf(bucket -> now - bucket.get().refilledAt() > idleNanos);
+            evicted += before - stripe.size();
+        }
+        return evicted;
+    }
+
+    public long size() {
+        long size = 0;
+        for (ConcurrentHashMap<String, AtomicReference<State>> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<String, AtomicReference<State>> stripe(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+}
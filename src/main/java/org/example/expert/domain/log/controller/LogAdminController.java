@@ -0,0 +1,27 @@
+package org.example.expert.domain.log.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.log.dto.response.LogRollupResponse;
+import org.example.expert.domain.log.service.LogRollupService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class LogAdminController {
+
+    private final LogRollupService logRollupService;
+
+    @GetMapping("/admin/logs/rollups")
+    public ResponseEntity<List<LogRollupResponse>> getRollups(
+            @RequestParam(defaultValue = "HOUR") String unit,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate
+    ) {
+        return ResponseEntity.ok(logRollupService.getRollups(unit, startDate, endDate));
+    }
+}
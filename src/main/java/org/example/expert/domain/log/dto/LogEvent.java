@@ -0,0 +1,17 @@
+package org.example.expert.domain.log.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class LogEvent {
+
+    private final boolean isManagerRegistered;
+    private final LocalDateTime createdAt;
+
+    public LogEvent(boolean isManagerRegistered, LocalDateTime createdAt) {
+        this.isManagerRegistered = isManagerRegistered;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.log.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class LogRollupResponse {
+
+    private final LocalDateTime bucketStart;
+    private final long successCount;
+    private final long failureCount;
+    private final double successRate;
+
+    public LogRollupResponse(LocalDateTime bucketStart, long successCount, long failureCount) {
+        this.bucketStart = bucketStart;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        long total = successCount + failureCount;
+        this.successRate = total == 0 ? 0 : (double) successCount / total;
+    }
+}
@@ -8,7 +8,7 @@ import org.example.expert.domain.common.entity.Timestamped;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "log")
+@Table(name = "log", indexes = @Index(name = "idx_log_created_at", columnList = "createdAt"))
 public class Log extends Timestamped {
 
     @Id
@@ -0,0 +1,34 @@
+package org.example.expert.domain.log.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.log.enums.RollupUnit;
+
+import java.time.LocalDateTime;
+
+// 로그 원본을 스캔하지 않고 구간별 성공/실패 건수를 조회할 수 있도록 LogBatchWriter 가 배치마다 누적하는 집계 테이블
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "log_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_log_rollup_unit_bucket", columnNames = {"unit", "bucket_start"}))
+public class LogRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupUnit unit;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private long successCount;
+
+    @Column(nullable = false)
+    private long failureCount;
+}
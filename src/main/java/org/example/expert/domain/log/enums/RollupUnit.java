@@ -0,0 +1,29 @@
+package org.example.expert.domain.log.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+public enum RollupUnit {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS);
+
+    private final ChronoUnit chronoUnit;
+
+    RollupUnit(ChronoUnit chronoUnit) {
+        this.chronoUnit = chronoUnit;
+    }
+
+    public LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(chronoUnit);
+    }
+
+    public static RollupUnit of(String unit) {
+        return Arrays.stream(RollupUnit.values())
+                .filter(u -> u.name().equalsIgnoreCase(unit))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 RollupUnit"));
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.expert.domain.log.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.log.dto.LogEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class LogBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // JDBC 배치로 저장하므로 JPA Auditing 이 동작하지 않아 생성/수정 시각을 직접 채웁니다.
+    @Transactional
+    public void saveAll(List<LogEvent> logEvents) {
+        String sql = "INSERT INTO log (is_manager_registered, created_at, modified_at) " +
+                "VALUES (?, ?, ?)";
+
+        jdbcTemplate.batchUpdate(sql,
+                logEvents,
+                logEvents.size(),
+                (PreparedStatement ps, LogEvent logEvent) -> {
+                    Timestamp createdAt = Timestamp.valueOf(logEvent.getCreatedAt());
+                    ps.setBoolean(1, logEvent.isManagerRegistered());
+                    ps.setTimestamp(2, createdAt);
+                    ps.setTimestamp(3, createdAt);
+                });
+    }
+
+    // 한 번에 지우는 행 수를 제한해 잠금과 undo 로그가 커지지 않도록 함
+    public int deleteCreatedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update("DELETE FROM log WHERE created_at < ? LIMIT ?",
+                Timestamp.valueOf(cutoff), limit);
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.expert.domain.log.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.log.dto.response.LogRollupResponse;
+import org.example.expert.domain.log.enums.RollupUnit;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class LogRollupRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // DB 별 upsert 문법에 의존하지 않도록 UPDATE 후 대상 행이 없을 때만 INSERT 하고,
+    // 다른 스레드가 먼저 INSERT 해 유니크 제약에 걸리면 다시 UPDATE 합니다.
+    public void increment(RollupUnit unit, LocalDateTime bucketStart, long successCount, long failureCount) {
+        if (update(unit, bucketStart, successCount, failureCount) > 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update("INSERT INTO log_rollups (unit, bucket_start, success_count, failure_count) " +
+                            "VALUES (?, ?, ?, ?)",
+                    unit.name(), Timestamp.valueOf(bucketStart), successCount, failureCount);
+        } catch (DuplicateKeyException e) {
+            update(unit, bucketStart, successCount, failureCount);
+        }
+    }
+
+    public List<LogRollupResponse> findAll(RollupUnit unit, LocalDateTime startDate, LocalDateTime endDate) {
+        String sql = "SELECT bucket_start, success_count, failure_count FROM log_rollups " +
+                "WHERE unit = ? AND bucket_start >= ? AND bucket_start <= ? " +
+                "ORDER BY bucket_start";
+
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new LogRollupResponse(
+                        rs.getTimestamp("bucket_start").toLocalDateTime(),
+                        rs.getLong("success_count"),
+                        rs.getLong("failure_count")),
+                unit.name(), Timestamp.valueOf(startDate), Timestamp.valueOf(endDate));
+    }
+
+    private int update(RollupUnit unit, LocalDateTime bucketStart, long successCount, long failureCount) {
+        return jdbcTemplate.update("UPDATE log_rollups " +
+                        "SET success_count = success_count + ?, failure_count = failure_count + ? " +
+                        "WHERE unit = ? AND bucket_start = ?",
+                successCount, failureCount, unit.name(), Timestamp.valueOf(bucketStart));
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.expert.domain.log.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.log.dto.LogEvent;
+import org.example.expert.domain.log.repository.LogBatchRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 로그를 요청 스레드에서 바로 저장하지 않고 제한된 큐에 쌓아 두었다가, 백그라운드 스레드가 배치로 저장
+@Slf4j
+@Component
+public class LogBatchWriter {
+
+    public enum OverflowPolicy {
+        DROP,        // 큐가 가득 차면 새 로그를 버리고 드롭 수를 기록
+        CALLER_RUNS  // 큐가 가득 차면 호출한 스레드에서 바로 저장 (유실 없음, 대신 요청이 느려짐)
+    }
+
+    private final LogBatchRepository logBatchRepository;
+    private final LogRollupService logRollupService;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+    private final BlockingQueue<LogEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private volatile boolean accepting = true;
+
+    public LogBatchWriter(
+            LogBatchRepository logBatchRepository,
+            LogRollupService logRollupService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${log.writer.queue-capacity:10000}") int queueCapacity,
+            @Value("${log.writer.batch-size:500}") int batchSize,
+            @Value("${log.writer.flush-interval:1s}") Duration flushInterval,
+            @Value("${log.writer.overflow-policy:DROP}") OverflowPolicy overflowPolicy
+    ) {
+        this.logBatchRepository = logBatchRepository;
+        this.logRollupService = logRollupService;
+        // CALLER_RUNS 나 종료 후 저장은 호출 스레드(커밋이 끝난 트랜잭션의 afterCompletion 일 수 있음)에서 실행되므로
+        // 기존 트랜잭션에 참여하지 않고 항상 새 트랜잭션에서 저장
+        this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+
+        Gauge.builder("log.writer.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        this.writtenCounter = Counter.builder("log.writer.written").register(meterRegistry);
+        this.droppedCounter = Counter.builder("log.writer.dropped").register(meterRegistry);
+        this.failedCounter = Counter.builder("log.writer.failed").register(meterRegistry);
+
+        this.writerThread = new Thread(this::run, "log-batch-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread.start();
+    }
+
+    public void enqueue(LogEvent logEvent) {
+        // 종료가 시작된 뒤에는 큐를 비울 스레드가 없으므로 호출 스레드에서 바로 저장
+        if (!accepting) {
+            write(List.of(logEvent));
+            return;
+        }
+
+        if (queue.offer(logEvent)) {
+            // offer 직후 종료가 시작되어 shutdown 의 drain 을 놓쳤다면 직접 꺼내 저장
+            if (!accepting && queue.remove(logEvent)) {
+                write(List.of(logEvent));
+            }
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            write(List.of(logEvent));
+            return;
+        }
+        droppedCounter.increment();
+    }
+
+    // 종료 시 작성 스레드가 현재 배치를 마무리하도록 기다린 뒤, 큐에 남은 로그를 모두 저장
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        accepting = false;
+        running = false;
+        writerThread.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) * 2 + 5000);
+
+        List<LogEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        log.info("log batch writer stopped - flushed on shutdown : {}", remaining.size());
+    }
+
+    private void run() {
+        List<LogEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 로그가 들어온 뒤 batchSize 만큼 모이거나 flushInterval 이 지나면 배치를 마감
+    private void collect(List<LogEvent> batch) throws InterruptedException {
+        LogEvent first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remainingNanos = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remainingNanos <= 0) {
+                return;
+            }
+
+            LogEvent next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<LogEvent> batch) {
+        try {
+            // 원본과 집계가 어긋나지 않도록 같은 트랜잭션에서 저장
+            requiresNewTransactionTemplate.executeWithoutResult(status -> {
+                logBatchRepository.saveAll(batch);
+                logRollupService.record(batch);
+            });
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("로그 {} 건을 저장하지 못했습니다.", batch.size(), e);
+        }
+    }
+}
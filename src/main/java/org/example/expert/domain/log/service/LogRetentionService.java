@@ -0,0 +1,46 @@
+package org.example.expert.domain.log.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.log.repository.LogBatchRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 집계는 log_rollups 에 남으므로, 보존 기간이 지난 로그 원본은 작은 배치로 나누어 삭제
+@Slf4j
+@Service
+public class LogRetentionService {
+
+    private final LogBatchRepository logBatchRepository;
+    private final Duration retention;
+    private final int batchSize;
+
+    public LogRetentionService(
+            LogBatchRepository logBatchRepository,
+            @Value("${log.retention.window:30d}") Duration retention,
+            @Value("${log.retention.batch-size:1000}") int batchSize
+    ) {
+        this.logBatchRepository = logBatchRepository;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${log.retention.cron:0 30 4 * * *}")
+    public long purgeExpiredLogs() {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+
+        long deletedCount = 0;
+        int deleted;
+        do {
+            deleted = logBatchRepository.deleteCreatedBefore(cutoff, batchSize);
+            deletedCount += deleted;
+        } while (deleted == batchSize);
+
+        log.info("log retention - deleted : {}, processing Time : {}", deletedCount, System.currentTimeMillis() - startTime);
+        return deletedCount;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.log.service;
+
+import io.micrometer.common.util.StringUtils;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.log.dto.LogEvent;
+import org.example.expert.domain.log.dto.response.LogRollupResponse;
+import org.example.expert.domain.log.enums.RollupUnit;
+import org.example.expert.domain.log.repository.LogRollupRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class LogRollupService {
+
+    private final LogRollupRepository logRollupRepository;
+
+    // 배치 안에서 같은 구간의 로그를 먼저 합산해, 구간마다 한 번만 갱신합니다.
+    public void record(List<LogEvent> logEvents) {
+        for (RollupUnit unit : RollupUnit.values()) {
+            Map<LocalDateTime, long[]> counts = new TreeMap<>();
+            for (LogEvent logEvent : logEvents) {
+                long[] count = counts.computeIfAbsent(unit.truncate(logEvent.getCreatedAt()), bucket -> new long[2]);
+                count[logEvent.isManagerRegistered() ? 0 : 1]++;
+            }
+            counts.forEach((bucketStart, count) -> logRollupRepository.increment(unit, bucketStart, count[0], count[1]));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<LogRollupResponse> getRollups(String unit, String startDate, String endDate) {
+        LocalDateTime start = StringUtils.isBlank(startDate) ? LocalDate.now().atStartOfDay()
+                : LocalDateTime.parse(startDate.concat("T00:00:00"), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        LocalDateTime end = StringUtils.isBlank(endDate) ? LocalDate.now().atTime(23, 59, 59)
+                : LocalDateTime.parse(endDate.concat("T23:59:59"), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+        return logRollupRepository.findAll(RollupUnit.of(unit), start, end);
+    }
+}
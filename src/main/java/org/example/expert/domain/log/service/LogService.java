@@ -1,21 +1,19 @@
 package org.example.expert.domain.log.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.log.entity.Log;
-import org.example.expert.domain.log.repository.LogRepository;
+import org.example.expert.domain.log.dto.LogEvent;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
 public class LogService {
 
-    private final LogRepository logRepository;
+    private final LogBatchWriter logBatchWriter;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    // 업무 트랜잭션과 별도의 커넥션/커밋 없이 큐에 적재하고, 저장은 LogBatchWriter 가 배치로 처리
     public void saveLog(boolean isSuccess) {
-        Log newLog = new Log(isSuccess);
-        logRepository.save(newLog);
+        logBatchWriter.enqueue(new LogEvent(isSuccess, LocalDateTime.now()));
     }
 }
@@ -11,6 +11,7 @@ import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -30,6 +31,7 @@ public class ManagerService {
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
     private final LogService logService;
+    private final TodoCache todoCache;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
@@ -54,6 +56,8 @@ public class ManagerService {
 
             Manager newManagerUser = new Manager(managerUser, todo);
             Manager savedManagerUser = managerRepository.save(newManagerUser);
+            todoRepository.updateManagerCount(todo.getId(), 1);
+            todoCache.evictAfterCommit(todo.getId());
 
             return new ManagerSaveResponse(
                     savedManagerUser.getId(),
@@ -103,5 +107,7 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoRepository.updateManagerCount(todo.getId(), -1);
+        todoCache.evictAfterCommit(todo.getId());
     }
 }
@@ -0,0 +1,33 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.service.TodoCountService;
+import org.example.expert.domain.todo.service.TodoTitleIndexService;
+import org.example.expert.domain.weather.service.WeatherService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoCountService todoCountService;
+    private final TodoTitleIndexService todoTitleIndexService;
+    private final WeatherService weatherService;
+
+    @PostMapping("/admin/todos/counts/reconcile")
+    public ResponseEntity<Long> reconcileCounts() {
+        return ResponseEntity.ok(todoCountService.reconcileCounts());
+    }
+
+    @PostMapping("/admin/todos/title-index/rebuild")
+    public ResponseEntity<Long> rebuildTitleIndex() {
+        return ResponseEntity.ok(todoTitleIndexService.rebuild());
+    }
+
+    @PostMapping("/admin/todos/weathers/backfill")
+    public ResponseEntity<Long> backfillWeathers() {
+        return ResponseEntity.ok(weatherService.backfillTodoWeatherIds());
+    }
+}
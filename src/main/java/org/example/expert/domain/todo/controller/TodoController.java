@@ -3,21 +3,27 @@ package org.example.expert.domain.todo.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoExportService todoExportService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -38,6 +44,28 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size, weather, modifiedAtStart, modifiedAtEnd));
     }
 
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) String modifiedAtStart,
+            @RequestParam(required = false) String modifiedAtEnd
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, weather, modifiedAtStart, modifiedAtEnd));
+    }
+
+    @GetMapping(value = "/todos/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTodos(
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) String modifiedAtStart,
+            @RequestParam(required = false) String modifiedAtEnd
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(todoExportService.exportTodos(weather, modifiedAtStart, modifiedAtEnd));
+    }
+
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
@@ -54,4 +82,29 @@ public class TodoController {
     ) {
         return ResponseEntity.ok(todoService.searchTodos(pageNum, pageSize, title, nickname, createdAtStart, createdAtEnd));
     }
+
+    // 전체 건수가 필요 없는 화면용. count 쿼리 없이 다음 페이지 존재 여부만 반환
+    @GetMapping("/todos/search/slice")
+    public ResponseEntity<Slice<TodoSearchResponse>> searchTodosSlice(
+            @RequestParam(defaultValue = "1") int pageNum,
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String nickname,
+            @RequestParam(required = false) String createdAtStart,
+            @RequestParam(required = false) String createdAtEnd
+    ) {
+        return ResponseEntity.ok(todoService.searchTodosSlice(pageNum, pageSize, title, nickname, createdAtStart, createdAtEnd));
+    }
+
+    @GetMapping("/todos/search/cursor")
+    public ResponseEntity<CursorResponse<TodoSearchResponse>> searchTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String nickname,
+            @RequestParam(required = false) String createdAtStart,
+            @RequestParam(required = false) String createdAtEnd
+    ) {
+        return ResponseEntity.ok(todoService.searchTodosByCursor(cursor, size, title, nickname, createdAtStart, createdAtEnd));
+    }
 }
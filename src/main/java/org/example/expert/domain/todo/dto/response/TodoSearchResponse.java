@@ -3,10 +3,14 @@ package org.example.expert.domain.todo.dto.response;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @RequiredArgsConstructor
 public class TodoSearchResponse {
+    private final Long id;
     private final String title;
     private final Long managerNum;
     private final Long commentNum;
+    private final LocalDateTime createdAt;
 }
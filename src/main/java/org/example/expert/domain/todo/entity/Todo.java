@@ -3,6 +3,7 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
@@ -14,7 +15,11 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todo_modified_at_id", columnList = "modifiedAt, id"),
+        @Index(name = "idx_todo_created_at_id", columnList = "createdAt, id"),
+        @Index(name = "idx_todo_weather_id_modified_at", columnList = "weather_id, modifiedAt")
+})
 public class Todo extends Timestamped {
 
     @Id
@@ -24,6 +29,18 @@ public class Todo extends Timestamped {
     private String contents;
     private String weather;
 
+    @Column(name = "weather_id")
+    private Long weatherId;
+
+    // 검색 시 상관 서브쿼리로 매번 집계하지 않도록 담당자/댓글 수를 비정규화하여 보관
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long managerCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -34,11 +51,13 @@ public class Todo extends Timestamped {
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
     private List<Manager> managers = new ArrayList<>();
 
-    public Todo(String title, String contents, String weather, User user) {
+    public Todo(String title, String contents, String weather, Long weatherId, User user) {
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.weatherId = weatherId;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = this.managers.size();
     }
 }
@@ -0,0 +1,53 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// 제목 부분 일치 검색(LIKE '%x%')이 전체 스캔이 되지 않도록 제목을 N-gram 단위로 색인하는 역색인 테이블
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_title_ngrams", indexes = {
+        @Index(name = "idx_ngram_gram_todo_id", columnList = "gram, todo_id"),
+        // 색인 재구성/누락 확인에서 일정 id 로 찾기 위한 인덱스
+        @Index(name = "idx_ngram_todo_id", columnList = "todo_id")
+})
+public class TodoTitleNgram {
+
+    // 한글 제목은 두 글자 단어가 많아 MySQL ngram parser 기본값과 같은 bi-gram 을 사용
+    public static final int GRAM_SIZE = 2;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 4)
+    private String gram;
+
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+
+    public TodoTitleNgram(String gram, Long todoId) {
+        this.gram = gram;
+        this.todoId = todoId;
+    }
+
+    // 대소문자를 구분하지 않도록 소문자로 정규화한 뒤, 서로게이트 쌍이 잘리지 않도록 code point 단위로 자릅니다.
+    public static Set<String> tokenize(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+
+        int[] codePoints = text.toLowerCase(Locale.ROOT).codePoints().toArray();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class TodoCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long findMaxTodoId() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject("SELECT MAX(id) FROM todos", Long.class))
+                .orElse(0L);
+    }
+
+    // 범위 단위로 나누어 커밋해서 대량의 행을 한 트랜잭션에서 잠그지 않도록 함
+    @Transactional
+    public int reconcileCounts(long fromIdExclusive, long toIdInclusive) {
+        String sql = "UPDATE todos t SET " +
+                "manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id), " +
+                "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id) " +
+                "WHERE t.id > ? AND t.id <= ?";
+
+        return jdbcTemplate.update(sql, fromIdExclusive, toIdInclusive);
+    }
+}
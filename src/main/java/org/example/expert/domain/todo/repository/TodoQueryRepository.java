@@ -1,30 +1,38 @@
 package org.example.expert.domain.todo.repository;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Wildcard;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import io.micrometer.common.util.StringUtils;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.Cursor;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.TodoTitleNgram;
 import org.example.expert.domain.user.dto.response.UserResponse;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
-import static org.example.expert.domain.comment.entity.QComment.comment;
-import static org.example.expert.domain.manager.entity.QManager.manager;
 import static org.example.expert.domain.todo.entity.QTodo.todo;
+import static org.example.expert.domain.todo.entity.QTodoTitleNgram.todoTitleNgram;
 import static org.example.expert.domain.user.entity.QUser.user;
 
 @Repository
@@ -34,34 +42,71 @@ public class TodoQueryRepository {
     private final JPAQueryFactory queryFactory;
 
     public TodoResponse findByIdWithUser(Long todoId) {
-        return queryFactory.select(Projections.constructor(TodoResponse.class,
-                        todo.id,
-                        todo.title,
-                        todo.contents,
-                        todo.weather,
-                        Projections.constructor(UserResponse.class,
-                                user.id,
-                                user.email),
-                        todo.createdAt,
-                        todo.modifiedAt
-                )).from(todo)
+        return queryFactory.select(todoResponse()).from(todo)
                 .leftJoin(todo.user, user)
                 .where(todo.id.eq(todoId))
                 .fetchOne();
     }
 
-    public Page<TodoSearchResponse> findByTitleAndNicknameAndCreatedAtDESC(Pageable pageable, String title, String nickname, LocalDateTime startDate, LocalDateTime endDate) {
-        List<TodoSearchResponse> todos = queryFactory
-                .select(Projections.constructor(TodoSearchResponse.class,
-                        todo.title,
-                        managerCountSubquery(),
-                        commentCountSubquery()
-                ))
+    // 엔티티를 영속성 컨텍스트에 올리지 않고 바로 DTO 로 조회 (스냅샷/프록시 생성 없음)
+    public Page<TodoResponse> findAllByWeatherAndModifiedAtDesc(Pageable pageable, List<Long> weatherIds, LocalDateTime startDate, LocalDateTime endDate) {
+        List<TodoResponse> todos = queryFactory.select(todoResponse()).from(todo)
+                .leftJoin(todo.user, user)
+                .where(
+                        inWeatherIds(weatherIds),
+                        goeModifiedAt(startDate),
+                        loeModifiedAt(endDate)
+                )
+                .orderBy(todo.modifiedAt.desc())
+                .limit(pageable.getPageSize())
+                .offset(pageable.getOffset())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(Wildcard.count)
                 .from(todo)
-                .innerJoin(todo.user, user)
-                .where(combineConditions(title, nickname, startDate, endDate))
-                .groupBy(todo.id)
-                .orderBy(todo.createdAt.desc())
+                .where(
+                        inWeatherIds(weatherIds),
+                        goeModifiedAt(startDate),
+                        loeModifiedAt(endDate)
+                );
+
+        // 마지막 페이지 등 건수를 알 수 있는 경우에는 count 쿼리를 생략
+        return PageableExecutionUtils.getPage(todos, pageable, countQuery::fetchOne);
+    }
+
+    public List<TodoResponse> findAllByWeatherAndModifiedAtDescAfterCursor(Cursor cursor, int limit, List<Long> weatherIds, LocalDateTime startDate, LocalDateTime endDate) {
+        return queryFactory.select(todoResponse()).from(todo)
+                .leftJoin(todo.user, user)
+                .where(
+                        inWeatherIds(weatherIds),
+                        goeModifiedAt(startDate),
+                        loeModifiedAt(endDate),
+                        beforeModifiedAtCursor(cursor)
+                )
+                // modifiedAt 이 같은 행이 있어도 순서가 고정되도록 id 를 보조 정렬 키로 사용
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 전진 전용 커서로 fetchSize 만큼씩 읽어오며, 스트림을 닫을 때 커서도 함께 닫힙니다.
+    public Stream<TodoResponse> streamAllByWeatherAndModifiedAt(List<Long> weatherIds, LocalDateTime startDate, LocalDateTime endDate, int fetchSize) {
+        return queryFactory.select(todoResponse()).from(todo)
+                .leftJoin(todo.user, user)
+                .where(
+                        inWeatherIds(weatherIds),
+                        goeModifiedAt(startDate),
+                        loeModifiedAt(endDate)
+                )
+                // 정렬 비용이 없도록 PK 순서로 읽음
+                .orderBy(todo.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .stream();
+    }
+
+    public Page<TodoSearchResponse> findByTitleAndNicknameAndCreatedAtDESC(Pageable pageable, String title, String nickname, LocalDateTime startDate, LocalDateTime endDate) {
+        List<TodoSearchResponse> todos = searchQuery(title, nickname, startDate, endDate)
                 .limit(pageable.getPageSize())
                 .offset(pageable.getOffset())
                 .fetch();
@@ -79,24 +124,60 @@ public class TodoQueryRepository {
         return new PageImpl<>(todos, pageable, totalCount);
     }
 
-    private Expression<Long> managerCountSubquery() {
-        return JPAExpressions
-                .select(Wildcard.count)
-                .from(manager)
-                .where(manager.todo.id.eq(todo.id));
+    // 전체 건수가 필요 없는 경우 count 쿼리 없이 limit + 1 건으로 다음 페이지 존재 여부만 판단
+    public Slice<TodoSearchResponse> findSliceByTitleAndNicknameAndCreatedAtDESC(Pageable pageable, String title, String nickname, LocalDateTime startDate, LocalDateTime endDate) {
+        List<TodoSearchResponse> todos = searchQuery(title, nickname, startDate, endDate)
+                .limit(pageable.getPageSize() + 1L)
+                .offset(pageable.getOffset())
+                .fetch();
+
+        boolean hasNext = todos.size() > pageable.getPageSize();
+        List<TodoSearchResponse> content = hasNext ? todos.subList(0, pageable.getPageSize()) : todos;
+
+        return new SliceImpl<>(content, pageable, hasNext);
     }
 
-    private Expression<Long> commentCountSubquery() {
-        return JPAExpressions
-                .select(Wildcard.count)
-                .from(comment)
-                .where(comment.todo.id.eq(todo.id));
+    public List<TodoSearchResponse> findByTitleAndNicknameAndCreatedAtDESCAfterCursor(Cursor cursor, int limit, String title, String nickname, LocalDateTime startDate, LocalDateTime endDate) {
+        return searchQuery(title, nickname, startDate, endDate)
+                .where(beforeCreatedAtCursor(cursor))
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<TodoSearchResponse> searchQuery(String title, String nickname, LocalDateTime startDate, LocalDateTime endDate) {
+        return queryFactory
+                .select(Projections.constructor(TodoSearchResponse.class,
+                        todo.id,
+                        todo.title,
+                        todo.managerCount,
+                        todo.commentCount,
+                        todo.createdAt
+                ))
+                .from(todo)
+                .innerJoin(todo.user, user)
+                .where(combineConditions(title, nickname, startDate, endDate))
+                // createdAt 이 같은 행이 있어도 순서가 고정되도록 id 를 보조 정렬 키로 사용
+                .orderBy(todo.createdAt.desc(), todo.id.desc());
+    }
+
+    private ConstructorExpression<TodoResponse> todoResponse() {
+        return Projections.constructor(TodoResponse.class,
+                todo.id,
+                todo.title,
+                todo.contents,
+                todo.weather,
+                Projections.constructor(UserResponse.class,
+                        user.id,
+                        user.email),
+                todo.createdAt,
+                todo.modifiedAt
+        );
     }
 
     private BooleanBuilder combineConditions(String title, String nickname, LocalDateTime startDate, LocalDateTime endDate) {
         BooleanBuilder booleanBuilder = new BooleanBuilder();
         booleanBuilder.and(likeTitle(title));
-        booleanBuilder.and(likeNickname(nickname));
+        booleanBuilder.and(startsWithNickname(nickname));
         booleanBuilder.and(goeCreatedAt(startDate));
         booleanBuilder.and(loeCreatedAt(endDate));
 
@@ -111,11 +192,58 @@ public class TodoQueryRepository {
         return Objects.isNull(createdAt) ? null : todo.createdAt.loe(createdAt);
     }
 
+    private BooleanExpression beforeCreatedAtCursor(Cursor cursor) {
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+        return todo.createdAt.lt(cursor.getTime())
+                .or(todo.createdAt.eq(cursor.getTime()).and(todo.id.lt(cursor.getId())));
+    }
+
+    private BooleanExpression goeModifiedAt(LocalDateTime modifiedAt) {
+        return Objects.isNull(modifiedAt) ? null : todo.modifiedAt.goe(modifiedAt);
+    }
+
+    private BooleanExpression loeModifiedAt(LocalDateTime modifiedAt) {
+        return Objects.isNull(modifiedAt) ? null : todo.modifiedAt.loe(modifiedAt);
+    }
+
+    private BooleanExpression beforeModifiedAtCursor(Cursor cursor) {
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+        return todo.modifiedAt.lt(cursor.getTime())
+                .or(todo.modifiedAt.eq(cursor.getTime()).and(todo.id.lt(cursor.getId())));
+    }
+
+    // null 이면 날씨 조건 없음, 빈 목록이면 일치하는 날씨가 없음
+    private BooleanExpression inWeatherIds(List<Long> weatherIds) {
+        return Objects.isNull(weatherIds) ? null : todo.weatherId.in(weatherIds);
+    }
+
     private BooleanExpression likeTitle(String title) {
-        return StringUtils.isBlank(title) ? null : todo.title.like("%" + title + "%");
+        if (StringUtils.isBlank(title)) {
+            return null;
+        }
+
+        BooleanExpression likeTitle = todo.title.like("%" + title + "%");
+        Set<String> grams = TodoTitleNgram.tokenize(title);
+        if (grams.isEmpty()) {
+            return likeTitle;
+        }
+
+        // N-gram 색인에서 모든 gram 을 포함하는 일정만 후보로 좁힌 뒤, 후보에 대해서만 LIKE 로 최종 확인
+        return todo.id.in(
+                JPAExpressions.select(todoTitleNgram.todoId)
+                        .from(todoTitleNgram)
+                        .where(todoTitleNgram.gram.in(grams))
+                        .groupBy(todoTitleNgram.todoId)
+                        .having(todoTitleNgram.gram.countDistinct().eq((long) grams.size()))
+        ).and(likeTitle);
     }
 
-    private BooleanExpression likeNickname(String nickname) {
-        return StringUtils.isBlank(nickname) ? null : todo.title.like("%" + nickname + "%");
+    // 닉네임은 앞부분 일치(LIKE 'x%')로 검색. 부분 일치(LIKE '%x%')와 달리 idx_nickname 인덱스를 사용할 수 있는 형태
+    private BooleanExpression startsWithNickname(String nickname) {
+        return StringUtils.isBlank(nickname) ? null : user.nickname.startsWith(nickname);
     }
 }
@@ -1,20 +1,20 @@
 package org.example.expert.domain.todo.repository;
 
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-
-import java.time.LocalDateTime;
+import org.springframework.data.repository.query.Param;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user u " +
-            "WHERE (NULLIF(TRIM(:weather), '') IS NULL OR t.weather LIKE CONCAT('%', :weather, '%')) " +
-            "AND (:startDate IS NULL OR t.modifiedAt >= :startDate) " +
-            "AND (:endDate IS NULL OR t.modifiedAt <= :endDate) " +
-            "ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByWeatherAndModifiedAtDesc(Pageable pageable, String weather, LocalDateTime startDate, LocalDateTime endDate);
+    // 동시에 여러 요청이 들어와도 갱신이 유실되지 않도록 엔티티가 아닌 DB 에서 원자적으로 증감
+    // 같은 트랜잭션에서 이미 읽은 Todo 가 이전 값을 보여주거나 dirty checking 으로 덮어쓰지 않도록 실행 전후로 flush/clear
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    void updateManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+    void updateCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta);
 }
@@ -0,0 +1,75 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.entity.TodoTitleNgram;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class TodoTitleNgramRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO todo_title_ngrams (gram, todo_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(Long todoId, String title) {
+        Set<String> grams = TodoTitleNgram.tokenize(title);
+        if (grams.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL,
+                grams,
+                grams.size(),
+                (PreparedStatement ps, String gram) -> {
+                    ps.setString(1, gram);
+                    ps.setLong(2, todoId);
+                });
+    }
+
+    public List<TodoTitle> findTitlesAfterId(long lastTodoId, int limit) {
+        return jdbcTemplate.query("SELECT id, title FROM todos WHERE id > ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new TodoTitle(rs.getLong("id"), rs.getString("title")),
+                lastTodoId, limit);
+    }
+
+    // gram 이 생기는(두 글자 이상) 제목인데 색인이 없는 일정이 하나라도 있는지 확인
+    public boolean existsTodoWithoutNgrams() {
+        return !jdbcTemplate.queryForList(
+                "SELECT 1 FROM todos t WHERE CHAR_LENGTH(t.title) >= ? "
+                        + "AND NOT EXISTS (SELECT 1 FROM todo_title_ngrams g WHERE g.todo_id = t.id) LIMIT 1",
+                Integer.class, TodoTitleNgram.GRAM_SIZE).isEmpty();
+    }
+
+    // 읽어온 일정의 기존 색인을 지우고 다시 만들어, 색인 재구성을 여러 번 실행해도 결과가 같도록 함
+    // (id 범위로 지우면 읽은 뒤에 커밋된 범위 안의 새 일정 색인까지 지워지므로 읽은 id 만 지움)
+    @Transactional
+    public void replaceAll(List<TodoTitle> todoTitles) {
+        if (todoTitles.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate("DELETE FROM todo_title_ngrams WHERE todo_id = ?",
+                todoTitles,
+                todoTitles.size(),
+                (PreparedStatement ps, TodoTitle todoTitle) -> ps.setLong(1, todoTitle.id()));
+
+        List<Object[]> rows = new ArrayList<>();
+        for (TodoTitle todoTitle : todoTitles) {
+            for (String gram : TodoTitleNgram.tokenize(todoTitle.title())) {
+                rows.add(new Object[]{gram, todoTitle.id()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    public record TodoTitle(long id, String title) {
+    }
+}
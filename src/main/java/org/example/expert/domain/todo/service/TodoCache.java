@@ -0,0 +1,67 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 일정 단건 조회(todo ⨝ user) 결과를 보관하는 크기/TTL 제한 캐시
+// 일정의 담당자/댓글이나 작성자 정보가 바뀌면 커밋 이후에 제거하고, 그 밖에는 TTL 로 만료
+@Component
+public class TodoCache {
+
+    private final Cache<Long, TodoResponse> cache;
+
+    public TodoCache(
+            MeterRegistry meterRegistry,
+            @Value("${todo.cache.maximum-size:10000}") long maximumSize,
+            @Value("${todo.cache.expire-after-write:5m}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        // cache.gets(hit/miss), cache.evictions 등의 지표로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "todo");
+    }
+
+    // 같은 id 로 동시에 들어온 요청은 하나의 loader 호출만 실행하고 결과를 함께 받습니다.
+    // loader 가 null 을 반환하면 캐시에 저장하지 않습니다.
+    public TodoResponse get(Long todoId, Function<Long, TodoResponse> loader) {
+        return cache.get(todoId, loader);
+    }
+
+    public void evictAfterCommit(Long todoId) {
+        afterCommit(() -> cache.invalidate(todoId));
+    }
+
+    // 응답에 작성자 정보가 포함되므로 정보가 바뀐 유저의 일정은 모두 제거
+    public void evictByUserIdAfterCommit(Long userId) {
+        afterCommit(() -> cache.asMap().values().removeIf(todo -> todo.getUser() != null && userId.equals(todo.getUser().getId())));
+    }
+
+    // 커밋 이전에 제거하면 다른 요청이 커밋 전 데이터를 다시 캐시할 수 있으므로 커밋 이후에 제거
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoCountRepository;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoCountService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final TodoCountRepository todoCountRepository;
+
+    // 컬럼 추가 이전에 저장된 일정의 담당자/댓글 수를 채우거나, 어긋난 값을 실제 건수로 맞춥니다.
+    public long reconcileCounts() {
+        long startTime = System.currentTimeMillis();
+        long maxTodoId = todoCountRepository.findMaxTodoId();
+        long updatedCount = 0;
+
+        for (long fromId = 0; fromId < maxTodoId; fromId += BATCH_SIZE) {
+            updatedCount += todoCountRepository.reconcileCounts(fromId, Math.min(fromId + BATCH_SIZE, maxTodoId));
+        }
+
+        log.info("todo count reconcile - updated : {}, processing Time : {}", updatedCount, System.currentTimeMillis() - startTime);
+        return updatedCount;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.common.util.StringUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoQueryRepository;
+import org.example.expert.domain.weather.service.WeatherService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class TodoExportService {
+
+    private static final int LINE_SEPARATOR = '\n';
+
+    private final TodoQueryRepository todoQueryRepository;
+    private final WeatherService weatherService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int fetchSize;
+    private final int flushInterval;
+
+    public TodoExportService(
+            TodoQueryRepository todoQueryRepository,
+            WeatherService weatherService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.export.fetch-size:1000}") int fetchSize,
+            @Value("${todo.export.flush-interval:1000}") int flushInterval
+    ) {
+        this.todoQueryRepository = todoQueryRepository;
+        this.weatherService = weatherService;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    // 응답이 커밋된 이후에는 에러 응답을 보낼 수 없으므로, 요청 파라미터 검증은 스트리밍 시작 전에 끝냅니다.
+    public StreamingResponseBody exportTodos(String weather, String modifiedAtStart, String modifiedAtEnd) {
+        LocalDateTime startDate = StringUtils.isBlank(modifiedAtStart) ? null
+                : LocalDateTime.parse(modifiedAtStart.concat("T00:00:00"), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        LocalDateTime endDate = StringUtils.isBlank(modifiedAtEnd) ? null
+                : LocalDateTime.parse(modifiedAtEnd.concat("T23:59:59"), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        List<Long> weatherIds = StringUtils.isBlank(weather) ? null : weatherService.findIdsContaining(weather);
+
+        return outputStream -> readOnlyTransactionTemplate.executeWithoutResult(status ->
+                writeTodos(outputStream, weatherIds, startDate, endDate));
+    }
+
+    // 한 행씩 읽어 바로 한 줄(NDJSON)로 쓰므로 결과 건수와 관계없이 메모리 사용량이 일정합니다.
+    private void writeTodos(OutputStream outputStream, List<Long> weatherIds, LocalDateTime startDate, LocalDateTime endDate) {
+        long startTime = System.currentTimeMillis();
+        long count = 0;
+
+        try (Stream<TodoResponse> todos = todoQueryRepository.streamAllByWeatherAndModifiedAt(weatherIds, startDate, endDate, fetchSize)) {
+            Iterator<TodoResponse> iterator = todos.iterator();
+            while (iterator.hasNext()) {
+                outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+                outputStream.write(LINE_SEPARATOR);
+
+                if (++count % flushInterval == 0) {
+                    outputStream.flush();
+                }
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("todo export - rows : {}, processing Time : {}", count, System.currentTimeMillis() - startTime);
+    }
+}
@@ -4,6 +4,8 @@ import io.micrometer.common.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.log.service.LogService;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
@@ -15,16 +17,20 @@ import org.example.expert.domain.todo.repository.TodoQueryRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.weather.service.WeatherService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -35,9 +41,27 @@ public class TodoService {
     private final TodoQueryRepository todoQueryRepository;
     private final WeatherClient weatherClient;
     private final LogService logService;
+    private final TodoTitleIndexService todoTitleIndexService;
+    private final TodoCache todoCache;
+    private final WeatherService weatherService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+        // 외부 날씨 API 호출 시간이 트랜잭션에 포함되지 않도록 트랜잭션을 시작하기 전에 날씨를 조회
+        String weather;
+        Long weatherId;
+        try {
+            weather = weatherClient.getTodayWeather();
+            weatherId = weatherService.getOrCreateId(weather);
+        } catch (RuntimeException e) {
+            logService.saveLog(false);
+            throw e;
+        }
+
+        return transactionTemplate.execute(status -> saveTodo(authUser, todoSaveRequest, weather, weatherId));
+    }
+
+    private TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest, String weather, Long weatherId) {
         // Cascade 연관 관계로 할 일을 등록할 때 Manager가 등록되는 경우에도 Log가 등록될 수 있도록 트랜잭션 동기화 콜백 등록
         // 이벤트 리스너를 통해 스프링이 트랜잭션 종료를 감지할 수 있도록 하는 것도 가능
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
@@ -50,15 +74,15 @@ public class TodoService {
 
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
-
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
                 todoSaveRequest.getContents(),
                 weather,
+                weatherId,
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoTitleIndexService.index(savedTodo.getId(), savedTodo.getTitle());
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -69,6 +93,7 @@ public class TodoService {
         );
     }
 
+    @Transactional(readOnly = true)
     public Page<TodoResponse> getTodos(int page, int size, String weather, String modifiedAtStart, String modifiedAtEnd) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
@@ -77,21 +102,32 @@ public class TodoService {
         LocalDateTime endDate = StringUtils.isBlank(modifiedAtEnd) ? null
                 : LocalDateTime.parse(modifiedAtEnd.concat("T23:59:59"), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
 
-        Page<Todo> todos = todoRepository.findAllByWeatherAndModifiedAtDesc(pageable, weather, startDate, endDate);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        List<Long> weatherIds = StringUtils.isBlank(weather) ? null : weatherService.findIdsContaining(weather);
+
+        return todoQueryRepository.findAllByWeatherAndModifiedAtDesc(pageable, weatherIds, startDate, endDate);
+    }
+
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size, String weather, String modifiedAtStart, String modifiedAtEnd) {
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+
+        Cursor after = StringUtils.isBlank(cursor) ? null : Cursor.decode(cursor);
+
+        LocalDateTime startDate = StringUtils.isBlank(modifiedAtStart) ? null
+                : LocalDateTime.parse(modifiedAtStart.concat("T00:00:00"), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        LocalDateTime endDate = StringUtils.isBlank(modifiedAtEnd) ? null
+                : LocalDateTime.parse(modifiedAtEnd.concat("T23:59:59"), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+        // 다음 페이지 존재 여부를 확인하기 위해 size + 1 건을 조회
+        List<Long> weatherIds = StringUtils.isBlank(weather) ? null : weatherService.findIdsContaining(weather);
+        List<TodoResponse> todos = todoQueryRepository.findAllByWeatherAndModifiedAtDescAfterCursor(after, size + 1, weatherIds, startDate, endDate);
+
+        return CursorResponse.of(todos, size, last -> new Cursor(last.getModifiedAt(), last.getId()).encode());
     }
 
     public TodoResponse getTodo(long todoId) {
-        return Optional.ofNullable(todoQueryRepository.findByIdWithUser(todoId))
+        return Optional.ofNullable(todoCache.get(todoId, todoQueryRepository::findByIdWithUser))
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
     }
 
@@ -105,4 +141,32 @@ public class TodoService {
 
         return todoQueryRepository.findByTitleAndNicknameAndCreatedAtDESC(pageable, title, nickname, startDate, endDate);
     }
+
+    public Slice<TodoSearchResponse> searchTodosSlice(int pageNum, int pageSize, String title, String nickname, String createdAtStart, String createdAtEnd) {
+        Pageable pageable = PageRequest.of(pageNum - 1, pageSize);
+
+        LocalDateTime startDate = StringUtils.isBlank(createdAtStart) ? null
+                : LocalDateTime.parse(createdAtStart.concat("T00:00:00"), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        LocalDateTime endDate = StringUtils.isBlank(createdAtEnd) ? null
+                : LocalDateTime.parse(createdAtEnd.concat("T23:59:59"), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+        return todoQueryRepository.findSliceByTitleAndNicknameAndCreatedAtDESC(pageable, title, nickname, startDate, endDate);
+    }
+
+    public CursorResponse<TodoSearchResponse> searchTodosByCursor(String cursor, int size, String title, String nickname, String createdAtStart, String createdAtEnd) {
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+
+        Cursor after = StringUtils.isBlank(cursor) ? null : Cursor.decode(cursor);
+
+        LocalDateTime startDate = StringUtils.isBlank(createdAtStart) ? null
+                : LocalDateTime.parse(createdAtStart.concat("T00:00:00"), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        LocalDateTime endDate = StringUtils.isBlank(createdAtEnd) ? null
+                : LocalDateTime.parse(createdAtEnd.concat("T23:59:59"), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+        List<TodoSearchResponse> todos = todoQueryRepository.findByTitleAndNicknameAndCreatedAtDESCAfterCursor(after, size + 1, title, nickname, startDate, endDate);
+
+        return CursorResponse.of(todos, size, last -> new Cursor(last.getCreatedAt(), last.getId()).encode());
+    }
 }
@@ -0,0 +1,78 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoTitleNgramRepository;
+import org.example.expert.domain.todo.repository.TodoTitleNgramRepository.TodoTitle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+public class TodoTitleIndexService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TodoTitleNgramRepository todoTitleNgramRepository;
+    private final boolean backfillOnStartup;
+
+    public TodoTitleIndexService(
+            TodoTitleNgramRepository todoTitleNgramRepository,
+            @Value("${todo.title-index.backfill-on-startup:true}") boolean backfillOnStartup
+    ) {
+        this.todoTitleNgramRepository = todoTitleNgramRepository;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    // 제목 검색은 색인에 있는 일정만 찾으므로, 색인 도입 이전 일정이 남아 있으면 기동 시 백그라운드로 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!backfillOnStartup) {
+            return;
+        }
+
+        Thread backfill = new Thread(this::backfillIfMissing, "todo-title-index-backfill");
+        backfill.setDaemon(true);
+        backfill.start();
+    }
+
+    // 일정 저장 트랜잭션 안에서 호출되어 일정과 색인이 함께 커밋/롤백됩니다.
+    public void index(Long todoId, String title) {
+        todoTitleNgramRepository.saveAll(todoId, title);
+    }
+
+    // 색인 도입 이전에 저장된 일정을 포함해 전체 제목 색인을 다시 만듭니다.
+    public long rebuild() {
+        long startTime = System.currentTimeMillis();
+        long lastTodoId = 0;
+        long indexedCount = 0;
+
+        List<TodoTitle> todoTitles;
+        do {
+            todoTitles = todoTitleNgramRepository.findTitlesAfterId(lastTodoId, BATCH_SIZE);
+            if (todoTitles.isEmpty()) {
+                break;
+            }
+
+            todoTitleNgramRepository.replaceAll(todoTitles);
+            lastTodoId = todoTitles.get(todoTitles.size() - 1).id();
+            indexedCount += todoTitles.size();
+        } while (todoTitles.size() == BATCH_SIZE);
+
+        log.info("todo title index rebuild - indexed : {}, processing Time : {}", indexedCount, System.currentTimeMillis() - startTime);
+        return indexedCount;
+    }
+
+    void backfillIfMissing() {
+        try {
+            if (todoTitleNgramRepository.existsTodoWithoutNgrams()) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.error("todo title index backfill failed", e);
+        }
+    }
+}
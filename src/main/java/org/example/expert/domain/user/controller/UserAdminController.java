@@ -1,21 +1,38 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.service.NicknameIndex;
 import org.example.expert.domain.user.service.UserAdminService;
-import org.springframework.web.bind.annotation.PatchMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RestController;
+import org.example.expert.domain.user.service.UserImportService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
 
 @RestController
 @RequiredArgsConstructor
 public class UserAdminController {
 
     private final UserAdminService userAdminService;
+    private final UserImportService userImportService;
+    private final NicknameIndex nicknameIndex;
 
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    // multipart 로 받으면 파일 전체가 임시 파일/메모리에 저장되므로 요청 본문을 그대로 스트림으로 읽음
+    @PostMapping(value = "/admin/users/import", consumes = "text/csv")
+    public ResponseEntity<UserImportResponse> importUsers(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(request.getInputStream()));
+    }
+
+    @PostMapping("/admin/users/nickname-index/rebuild")
+    public ResponseEntity<Long> rebuildNicknameIndex() {
+        return ResponseEntity.ok(nicknameIndex.rebuild());
+    }
 }
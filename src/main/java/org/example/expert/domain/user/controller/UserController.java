@@ -3,7 +3,10 @@ package org.example.expert.domain.user.controller;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.response.UserBatchResponse;
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.service.UserService;
 import org.springframework.http.ResponseEntity;
@@ -22,13 +25,30 @@ public class UserController {
         return ResponseEntity.ok(userService.getUser(userId));
     }
 
+    @GetMapping("/users")
+    public ResponseEntity<UserBatchResponse> getUsers(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(userService.getUsers(ids));
+    }
+
     @PutMapping("/users")
     public void changePassword(@Auth AuthUser authUser, @RequestBody UserChangePasswordRequest userChangePasswordRequest) {
         userService.changePassword(Long.parseLong(authUser.getUsername()), userChangePasswordRequest);
     }
 
     @GetMapping("users/search")
-    public ResponseEntity<List<UserResponse>> searchUserWithIndex(@RequestParam String nickname) {
-        return ResponseEntity.ok(userService.searchUserWithIndex(nickname));
+    public ResponseEntity<CursorResponse<UserResponse>> searchUserWithIndex(
+            @RequestParam String nickname,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(userService.searchUserWithIndex(nickname, cursor, size));
+    }
+
+    @GetMapping("/users/nicknames/autocomplete")
+    public ResponseEntity<List<UserNicknameResponse>> autocompleteNicknames(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(userService.autocompleteNicknames(prefix, limit));
     }
 }
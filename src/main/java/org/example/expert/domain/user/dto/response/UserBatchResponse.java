@@ -0,0 +1,13 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class UserBatchResponse {
+    private final List<UserResponse> users;
+    private final List<Long> missingIds;
+}
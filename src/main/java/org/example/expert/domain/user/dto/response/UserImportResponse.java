@@ -0,0 +1,25 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class UserImportResponse {
+
+    private final long totalRows;
+    private final long importedRows;
+    private final long failedRows;
+    private final List<RowError> errors;
+    private final boolean errorsTruncated;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class RowError {
+        private final long line;
+        private final String email;
+        private final String reason;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class UserEmailRepository {
+
+    public record UserEmail(long id, String email) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long countUsers() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class))
+                .orElse(0L);
+    }
+
+    public long countUsersUpTo(long maxId) {
+        return Optional.ofNullable(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id <= ?", Long.class, maxId))
+                .orElse(0L);
+    }
+
+    // 전체를 한 번에 읽지 않도록 id 기준 keyset 으로 나누어 조회
+    public List<UserEmail> findEmailsAfterId(long lastId, int limit) {
+        return jdbcTemplate.query("SELECT id, email FROM users WHERE id > ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new UserEmail(rs.getLong("id"), rs.getString("email")),
+                lastId, limit);
+    }
+}
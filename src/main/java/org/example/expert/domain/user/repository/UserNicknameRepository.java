@@ -0,0 +1,35 @@
+package org.example.expert.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class UserNicknameRepository {
+
+    public record UserNickname(long id, String nickname) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 전체를 한 번에 읽지 않도록 id 기준 keyset 으로 나누어 조회
+    public List<UserNickname> findNicknamesAfterId(long lastId, int limit) {
+        return jdbcTemplate.query("SELECT id, nickname FROM users WHERE id > ? AND nickname IS NOT NULL ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new UserNickname(rs.getLong("id"), rs.getString("nickname")),
+                lastId, limit);
+    }
+
+    // JDBC 배치 INSERT 는 생성된 id 를 돌려주지 않으므로 저장 후 이메일로 다시 조회
+    public List<UserNickname> findNicknamesByEmails(Collection<String> emails) {
+        return namedParameterJdbcTemplate.query("SELECT id, nickname FROM users WHERE email IN (:emails) AND nickname IS NOT NULL",
+                Map.of("emails", emails),
+                (rs, rowNum) -> new UserNickname(rs.getLong("id"), rs.getString("nickname")));
+    }
+}
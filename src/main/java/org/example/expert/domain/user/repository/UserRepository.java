@@ -1,8 +1,15 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,5 +18,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmail(String email);
 
-    List<User> findByNickname(String nickname);
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) " +
+            "FROM User u WHERE u.id IN :ids")
+    List<UserResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 비밀번호 해시 등 엔티티 전체를 읽지 않도록 응답 DTO 로 바로 조회하고, id 기준 keyset 으로 limit 건만 가져옴
+    // idx_nickname 보조 인덱스에는 PK(id)가 포함되어 있어 (nickname, id) 순서로 범위 조회됩니다.
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) " +
+            "FROM User u WHERE u.nickname = :nickname AND u.id > :lastId ORDER BY u.id")
+    List<UserResponse> findByNicknameAfterId(@Param("nickname") String nickname, @Param("lastId") long lastId, Pageable pageable);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    // 해싱하는 동안 다른 요청이 비밀번호를 바꿨다면 덮어쓰지 않도록 기존 해시가 같을 때만 갱신
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePassword(@Param("userId") Long userId, @Param("oldPassword") String oldPassword, @Param("newPassword") String newPassword);
 }
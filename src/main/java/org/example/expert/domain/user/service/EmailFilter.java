@@ -0,0 +1,167 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.util.BloomFilter;
+import org.example.expert.domain.user.repository.UserEmailRepository;
+import org.example.expert.domain.user.repository.UserEmailRepository.UserEmail;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 가입된 이메일의 Bloom filter. "확실히 없음"이면 로그인/회원가입에서 DB 조회를 생략
+// 인스턴스마다 따로 가지므로 다른 인스턴스에서 가입한 유저는 주기적인 증분 적재(id 기준, 뒤쪽 일부 구간 재조회)로 반영하고,
+// 재조회 구간보다 늦게 커밋된 유저는 건수 비교로 찾아 즉시 다시 만들며, 설계 크기를 넘어 오탐률이 커지지 않도록 전체를 주기적으로 다시 만듦
+@Slf4j
+@Component
+public class EmailFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long MIN_EXPECTED_INSERTIONS = 100_000;
+    private static final int LOAD_BATCH_SIZE = 10000;
+
+    private final UserEmailRepository userEmailRepository;
+    private final long refreshOverlap;
+    private final Set<String> pendingEmails = ConcurrentHashMap.newKeySet();
+    private final Counter definiteMissCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile BloomFilter emails = new BloomFilter(MIN_EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+    private volatile boolean ready;
+    private LoadedRange loadedRange = new LoadedRange();
+
+    // 적재한 마지막 id 와, 재조회 구간 안쪽은 id 목록 / 바깥쪽은 건수로 보관 (rebuild, refresh 에서만 접근)
+    private static final class LoadedRange {
+        private final NavigableSet<Long> windowIds = new TreeSet<>();
+        private long lastId;
+        private long countBelowWindow;
+    }
+
+    public EmailFilter(
+            UserEmailRepository userEmailRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.email-filter.refresh-overlap:1000}") long refreshOverlap
+    ) {
+        this.userEmailRepository = userEmailRepository;
+        this.refreshOverlap = refreshOverlap;
+        this.definiteMissCounter = Counter.builder("user.email_filter.definite_miss").register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("user.email_filter.false_positive").register(meterRegistry);
+        Gauge.builder("user.email_filter.expected_fpp", this, filter -> filter.emails.expectedFalsePositiveRate())
+                .register(meterRegistry);
+    }
+
+    // 기동이 적재를 기다리지 않도록 별도 스레드에서 만듦 (적재 전에는 항상 DB 를 조회)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread loader = new Thread(this::rebuild, "email-filter-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // false 면 가입되지 않은 이메일이 확실함. 적재가 끝나기 전에는 판단할 수 없어 true 를 반환
+    public boolean mightExist(String email) {
+        if (!ready) {
+            return true;
+        }
+        if (!emails.mightContain(normalize(email))) {
+            definiteMissCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    // mightExist 가 true 였지만 DB 에 없었던 경우 호출해 실제 오탐 건수를 기록
+    public void recordFalsePositive() {
+        if (ready) {
+            falsePositiveCounter.increment();
+        }
+    }
+
+    public void add(String email) {
+        String normalized = normalize(email);
+        // 다시 만드는 중에 추가된 이메일이 새 filter 에서 빠지지 않도록 보관 (rebuild 가 교체 후 다시 넣음)
+        pendingEmails.add(normalized);
+        emails.put(normalized);
+    }
+
+    @Scheduled(fixedDelayString = "${user.email-filter.rebuild-interval:PT1H}", initialDelayString = "${user.email-filter.rebuild-interval:PT1H}")
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        Set<String> loadedPendingEmails = new HashSet<>(pendingEmails);
+
+        // 다음 rebuild 전까지 늘어날 가입자를 고려해 현재 건수의 2배로 설계
+        BloomFilter rebuilt = new BloomFilter(Math.max(MIN_EXPECTED_INSERTIONS, userEmailRepository.countUsers() * 2), FALSE_POSITIVE_RATE);
+        LoadedRange range = new LoadedRange();
+        loadAfter(rebuilt, range, 0);
+
+        // 교체 전에 읽은 emails 에 넣은 add 가 있을 수 있으므로 교체한 뒤에 보관된 이메일을 넣음
+        // (교체 이후의 add 는 새 filter 에 직접 넣음)
+        emails = rebuilt;
+        pendingEmails.forEach(rebuilt::put);
+        pendingEmails.removeAll(loadedPendingEmails);
+        loadedRange = range;
+        ready = true;
+
+        log.info("email filter rebuilt - last id : {}, processing Time : {}", range.lastId, System.currentTimeMillis() - startTime);
+    }
+
+    // 다른 인스턴스에서 가입한 유저를 반영. id 는 커밋 순서와 다르게 보일 수 있어(작은 id 가 늦게 커밋)
+    // 마지막으로 읽은 id 이후만 읽으면 늦게 커밋된 이메일이 빠지므로, 뒤쪽 refreshOverlap 개 id 구간을 다시 읽음
+    // 대량 가져오기처럼 이 구간보다 더 늦게 커밋된 경우는 구간 바깥의 DB 건수가 적재한 건수와 달라지므로,
+    // 다시 만드는 동안은 DB 를 조회하게 하고(false negative 방지) 즉시 다시 만듦
+    @Scheduled(fixedDelayString = "${user.email-filter.refresh-interval:PT5S}")
+    public synchronized void refresh() {
+        if (!ready) {
+            return;
+        }
+
+        loadAfter(emails, loadedRange, windowStart(loadedRange));
+
+        long windowStart = windowStart(loadedRange);
+        long countBelowWindow = userEmailRepository.countUsersUpTo(windowStart);
+        if (countBelowWindow != loadedRange.countBelowWindow) {
+            log.info("email filter missed late committed users - id <= {}, db : {}, loaded : {}",
+                    windowStart, countBelowWindow, loadedRange.countBelowWindow);
+            ready = false;
+            rebuild();
+        }
+    }
+
+    private void loadAfter(BloomFilter filter, LoadedRange range, long lastId) {
+        List<UserEmail> chunk;
+        do {
+            chunk = userEmailRepository.findEmailsAfterId(lastId, LOAD_BATCH_SIZE);
+            for (UserEmail userEmail : chunk) {
+                filter.put(normalize(userEmail.email()));
+                range.windowIds.add(userEmail.id());
+                lastId = userEmail.id();
+            }
+            range.lastId = Math.max(range.lastId, lastId);
+
+            // 재조회 구간 바깥으로 밀려난 id 는 다시 읽지 않으므로 건수로만 남김
+            NavigableSet<Long> belowWindow = range.windowIds.headSet(windowStart(range), true);
+            range.countBelowWindow += belowWindow.size();
+            belowWindow.clear();
+        } while (chunk.size() == LOAD_BATCH_SIZE);
+    }
+
+    private long windowStart(LoadedRange range) {
+        return Math.max(0, range.lastId - refreshOverlap);
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
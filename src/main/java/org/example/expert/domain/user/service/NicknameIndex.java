@@ -0,0 +1,174 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
+import org.example.expert.domain.user.repository.UserNicknameRepository;
+import org.example.expert.domain.user.repository.UserNicknameRepository.UserNickname;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 닉네임 자동완성용 메모리 인덱스
+// 전체 유저는 대소문자 무시 순서로 정렬한 배열(base)에, 이후 가입한 유저는 정렬된 집합(delta)에 보관하고
+// 접두사로 시작하는 구간을 이진 탐색으로 찾은 뒤 두 목록을 병합해 앞에서부터 limit 건을 반환
+// delta 가 계속 커지지 않도록 주기적으로, 또는 delta 가 deltaMaxSize 건을 넘으면 base 를 다시 만들어 병합
+// (주기적인 재구축은 다른 인스턴스에서 가입한 유저도 반영)
+@Slf4j
+@Component
+public class NicknameIndex {
+
+    private static final int LOAD_BATCH_SIZE = 10000;
+    private static final Comparator<UserNickname> ORDER = Comparator
+            .comparing(UserNickname::nickname, String.CASE_INSENSITIVE_ORDER)
+            .thenComparingLong(UserNickname::id);
+
+    private record Snapshot(String[] nicknames, long[] userIds) {
+    }
+
+    private final UserNicknameRepository userNicknameRepository;
+    private final int deltaMaxSize;
+    private final NavigableSet<UserNickname> delta = new ConcurrentSkipListSet<>(ORDER);
+    private volatile Snapshot base = new Snapshot(new String[0], new long[0]);
+
+    public NicknameIndex(
+            UserNicknameRepository userNicknameRepository,
+            @Value("${user.nickname-index.delta-max-size:10000}") int deltaMaxSize
+    ) {
+        this.userNicknameRepository = userNicknameRepository;
+        this.deltaMaxSize = deltaMaxSize;
+    }
+
+    // 기동이 인덱스 적재를 기다리지 않도록 별도 스레드에서 만듦 (적재 전에는 이후 가입한 유저만 검색됨)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread loader = new Thread(this::rebuild, "nickname-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    public void add(Long userId, String nickname) {
+        if (userId != null && nickname != null) {
+            delta.add(new UserNickname(userId, nickname));
+        }
+    }
+
+    public void addAll(Collection<UserNickname> userNicknames) {
+        delta.addAll(userNicknames);
+    }
+
+    public List<UserNicknameResponse> findByPrefix(String prefix, int limit) {
+        Snapshot snapshot = base;
+        List<UserNicknameResponse> result = new ArrayList<>(limit);
+
+        int baseIndex = lowerBound(snapshot.nicknames(), prefix);
+        Iterator<UserNickname> deltaIterator = delta.tailSet(new UserNickname(Long.MIN_VALUE, prefix), true).iterator();
+        UserNickname deltaNext = nextMatching(deltaIterator, prefix);
+
+        while (result.size() < limit) {
+            boolean baseMatches = baseIndex < snapshot.nicknames().length && startsWithIgnoreCase(snapshot.nicknames()[baseIndex], prefix);
+            if (!baseMatches && deltaNext == null) {
+                break;
+            }
+
+            UserNickname baseNext = baseMatches ? new UserNickname(snapshot.userIds()[baseIndex], snapshot.nicknames()[baseIndex]) : null;
+            if (deltaNext == null || (baseNext != null && ORDER.compare(baseNext, deltaNext) <= 0)) {
+                // 재구축 직후에는 같은 유저가 base 와 delta 에 모두 있을 수 있음
+                if (baseNext.equals(deltaNext)) {
+                    deltaNext = nextMatching(deltaIterator, prefix);
+                }
+                result.add(new UserNicknameResponse(baseNext.id(), baseNext.nickname()));
+                baseIndex++;
+            } else {
+                result.add(new UserNicknameResponse(deltaNext.id(), deltaNext.nickname()));
+                deltaNext = nextMatching(deltaIterator, prefix);
+            }
+        }
+        return result;
+    }
+
+    // ConcurrentSkipListSet.size() 는 전체를 순회하므로 add 마다 확인하지 않고 주기적으로 확인
+    @Scheduled(fixedDelayString = "${user.nickname-index.delta-check-interval:PT1M}")
+    public void rebuildIfDeltaTooLarge() {
+        int deltaSize = delta.size();
+        if (deltaSize >= deltaMaxSize) {
+            log.info("nickname index delta exceeded max size - delta : {}, max : {}", deltaSize, deltaMaxSize);
+            rebuild();
+        }
+    }
+
+    // users 테이블을 나누어 읽어 새 base 를 만든 뒤 교체하고, 새 base 에 포함된 delta 항목은 제거
+    @Scheduled(fixedDelayString = "${user.nickname-index.rebuild-interval:PT1H}", initialDelayString = "${user.nickname-index.rebuild-interval:PT1H}")
+    public synchronized long rebuild() {
+        long startTime = System.currentTimeMillis();
+
+        List<UserNickname> userNicknames = new ArrayList<>();
+        long lastId = 0;
+        List<UserNickname> chunk;
+        do {
+            chunk = userNicknameRepository.findNicknamesAfterId(lastId, LOAD_BATCH_SIZE);
+            userNicknames.addAll(chunk);
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == LOAD_BATCH_SIZE);
+
+        userNicknames.sort(ORDER);
+        String[] nicknames = new String[userNicknames.size()];
+        long[] userIds = new long[userNicknames.size()];
+        for (int i = 0; i < userNicknames.size(); i++) {
+            nicknames[i] = userNicknames.get(i).nickname();
+            userIds[i] = userNicknames.get(i).id();
+        }
+        Snapshot rebuilt = new Snapshot(nicknames, userIds);
+        base = rebuilt;
+
+        delta.removeIf(entry -> contains(rebuilt, entry));
+
+        log.info("nickname index rebuilt - size : {}, processing Time : {}", nicknames.length, System.currentTimeMillis() - startTime);
+        return nicknames.length;
+    }
+
+    private boolean contains(Snapshot snapshot, UserNickname entry) {
+        for (int i = lowerBound(snapshot.nicknames(), entry.nickname());
+             i < snapshot.nicknames().length && snapshot.nicknames()[i].equalsIgnoreCase(entry.nickname()); i++) {
+            if (snapshot.userIds()[i] == entry.id() && snapshot.nicknames()[i].equals(entry.nickname())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static UserNickname nextMatching(Iterator<UserNickname> iterator, String prefix) {
+        if (iterator.hasNext()) {
+            UserNickname next = iterator.next();
+            if (startsWithIgnoreCase(next.nickname(), prefix)) {
+                return next;
+            }
+        }
+        return null;
+    }
+
+    // prefix 이상인 첫 위치 (대소문자 무시 순서에서 prefix 로 시작하는 닉네임은 이 위치부터 연속으로 나옴)
+    private static int lowerBound(String[] nicknames, String prefix) {
+        int low = 0;
+        int high = nicknames.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(nicknames[mid], prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean startsWithIgnoreCase(String nickname, String prefix) {
+        return nickname.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.expert.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+// 여러 유저 조회(id → 이메일) 결과를 id 단위로 짧게 보관해, 겹치는 요청이 같은 id 를 다시 조회하지 않도록 하는 캐시
+@Component
+public class UserCache {
+
+    private final Cache<Long, UserResponse> cache;
+
+    public UserCache(
+            MeterRegistry meterRegistry,
+            @Value("${user.cache.maximum-size:100000}") long maximumSize,
+            @Value("${user.cache.expire-after-write:30s}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user");
+    }
+
+    // 캐시에 없는 id 만 모아 loader 를 한 번 호출합니다. loader 결과에 없는 id(존재하지 않는 유저)는 캐시하지 않습니다.
+    public Map<Long, UserResponse> getAll(Collection<Long> userIds, Function<Set<? extends Long>, Map<Long, UserResponse>> loader) {
+        return cache.getAll(userIds, loader);
+    }
+}
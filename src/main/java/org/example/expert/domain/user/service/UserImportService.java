@@ -0,0 +1,282 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.dto.response.UserImportResponse.RowError;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserNicknameRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.init.InitDataRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// CSV(email,password,userRole,nickname)를 한 줄씩 읽어 batch 단위로 검증/중복 확인/해싱/저장
+// 파일 전체를 메모리에 올리지 않고 batch 크기만큼만 보관
+// 한 행은 한 줄이어야 함. 따옴표 안의 줄바꿈은 지원하지 않고, 따옴표가 닫히지 않은 줄은 오류 행으로 기록
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final List<String> HEADER = List.of("email", "password", "userRole", "nickname");
+
+    private record ImportRow(long line, SignupRequest request) {
+    }
+
+    // 오류 목록이 너무 커지지 않도록 maxErrors 건까지만 보관하고 실패 건수는 모두 셈
+    private static class ErrorReport {
+        private final List<RowError> errors = new ArrayList<>();
+        private final int maxErrors;
+        private long failedRows;
+
+        private ErrorReport(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void add(RowError error) {
+            failedRows++;
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            }
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final InitDataRepository initDataRepository;
+    private final UserNicknameRepository userNicknameRepository;
+    private final NicknameIndex nicknameIndex;
+    private final EmailFilter emailFilter;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final int batchSize;
+    private final int maxErrors;
+    private final ExecutorService hashExecutor;
+
+    public UserImportService(
+            UserRepository userRepository,
+            InitDataRepository initDataRepository,
+            UserNicknameRepository userNicknameRepository,
+            NicknameIndex nicknameIndex,
+            EmailFilter emailFilter,
+            PasswordEncoder passwordEncoder,
+            Validator validator,
+            @Value("${user.import.batch-size:1000}") int batchSize,
+            @Value("${user.import.max-errors:10000}") int maxErrors,
+            @Value("${user.import.hash-threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int hashThreads
+    ) {
+        this.userRepository = userRepository;
+        this.initDataRepository = initDataRepository;
+        this.userNicknameRepository = userNicknameRepository;
+        this.nicknameIndex = nicknameIndex;
+        this.emailFilter = emailFilter;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+
+        // 로그인/회원가입용 PasswordHasher 풀과 분리해 대량 등록이 로그인 요청을 503 으로 밀어내지 않도록 함
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashExecutor = Executors.newFixedThreadPool(hashThreads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public UserImportResponse importUsers(InputStream csv) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (header == null || !HEADER.equals(parseLine(header.replace("\uFEFF", "")))) {
+            throw new InvalidRequestException("CSV 헤더는 " + String.join(",", HEADER) + " 이어야 합니다.");
+        }
+
+        ErrorReport report = new ErrorReport(maxErrors);
+        long totalRows = 0;
+        long importedRows = 0;
+        long line = 1;
+
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            totalRows++;
+
+            List<String> fields = parseLine(text);
+            if (fields == null) {
+                report.add(new RowError(line, null, "닫히지 않은 따옴표가 있습니다. 필드 안의 줄바꿈은 지원하지 않습니다."));
+                continue;
+            }
+            if (fields.size() != HEADER.size()) {
+                report.add(new RowError(line, null, "컬럼 수가 올바르지 않습니다."));
+                continue;
+            }
+            batch.add(new ImportRow(line, new SignupRequest(fields.get(0), fields.get(1), fields.get(2), fields.get(3))));
+
+            if (batch.size() == batchSize) {
+                importedRows += importBatch(batch, report);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importedRows += importBatch(batch, report);
+        }
+
+        log.info("user import - total : {}, imported : {}, failed : {}", totalRows, importedRows, report.failedRows);
+        return new UserImportResponse(totalRows, importedRows, report.failedRows, report.errors, report.failedRows > report.errors.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    private long importBatch(List<ImportRow> batch, ErrorReport report) {
+        // 1. 형식 검증과 파일 내 중복 제거 (users.email 유니크 인덱스의 기본 collation 처럼 대소문자 무시)
+        Map<String, ImportRow> validRows = new LinkedHashMap<>();
+        for (ImportRow row : batch) {
+            String reason = validate(row.request());
+            if (reason == null && validRows.containsKey(normalize(row.request().getEmail()))) {
+                reason = "파일 안에서 중복된 이메일입니다.";
+            }
+
+            if (reason != null) {
+                report.add(new RowError(row.line(), row.request().getEmail(), reason));
+            } else {
+                validRows.put(normalize(row.request().getEmail()), row);
+            }
+        }
+
+        // 2. 이미 가입된 이메일을 batch 단위 IN 조회 한 번으로 제외
+        if (!validRows.isEmpty()) {
+            List<String> emails = validRows.values().stream().map(row -> row.request().getEmail()).toList();
+            for (String email : userRepository.findEmailsIn(emails)) {
+                ImportRow row = validRows.remove(normalize(email));
+                if (row != null) {
+                    report.add(new RowError(row.line(), row.request().getEmail(), "이미 존재하는 이메일입니다."));
+                }
+            }
+        }
+        if (validRows.isEmpty()) {
+            return 0;
+        }
+
+        // 3. BCrypt 해싱을 병렬로 실행
+        List<CompletableFuture<User>> futures = validRows.values().stream()
+                .map(row -> CompletableFuture.supplyAsync(() -> toUser(row.request()), hashExecutor))
+                .toList();
+        List<User> users = futures.stream().map(CompletableFuture::join).toList();
+
+        // 4. 조회 이후 다른 요청이 같은 이메일로 가입했다면 batch 전체가 실패하므로 한 건씩 다시 저장
+        List<User> savedUsers;
+        try {
+            initDataRepository.saveAll(users, users.size());
+            savedUsers = users;
+        } catch (DataIntegrityViolationException e) {
+            savedUsers = saveOneByOne(new ArrayList<>(validRows.values()), users, report);
+        }
+
+        // 5. 실제로 저장한 유저만 이메일 filter 와 자동완성 인덱스에 반영
+        //    (실패한 이메일로 조회하면 먼저 가입한 다른 유저의 닉네임이 인덱스에 중복으로 들어감)
+        if (!savedUsers.isEmpty()) {
+            List<String> savedEmails = savedUsers.stream().map(User::getEmail).toList();
+            savedEmails.forEach(emailFilter::add);
+            nicknameIndex.addAll(userNicknameRepository.findNicknamesByEmails(savedEmails));
+        }
+        return savedUsers.size();
+    }
+
+    private List<User> saveOneByOne(List<ImportRow> rows, List<User> users, ErrorReport report) {
+        List<User> savedUsers = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            try {
+                initDataRepository.saveAll(List.of(users.get(i)), 1);
+                savedUsers.add(users.get(i));
+            } catch (DataIntegrityViolationException e) {
+                report.add(new RowError(rows.get(i).line(), users.get(i).getEmail(), "이미 존재하는 이메일입니다."));
+            }
+        }
+        return savedUsers;
+    }
+
+    private String validate(SignupRequest request) {
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<SignupRequest> violation = violations.iterator().next();
+            return violation.getPropertyPath() + " : " + violation.getMessage();
+        }
+
+        try {
+            UserRole.of(request.getUserRole());
+        } catch (InvalidRequestException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private User toUser(SignupRequest request) {
+        return new User(
+                request.getEmail(),
+                passwordEncoder.encode(request.getPassword()),
+                UserRole.of(request.getUserRole()),
+                request.getNickname()
+        );
+    }
+
+    // 큰따옴표로 감싼 필드 안의 쉼표와 이스케이프된 따옴표("")를 처리. 줄 끝까지 따옴표가 닫히지 않으면 null
+    private static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
@@ -1,46 +1,127 @@
 package org.example.expert.domain.user.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.common.util.StringUtils;
+import org.example.expert.config.PasswordHasher;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.service.TodoCache;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.response.UserBatchResponse;
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
+    private static final int SEARCH_MAX_SIZE = 100;
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final NicknameIndex nicknameIndex;
+    private final UserCache userCache;
+    private final TodoCache todoCache;
+    private final int autocompleteMaxLimit;
+    private final int batchMaxIds;
+
+    public UserService(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher,
+            NicknameIndex nicknameIndex,
+            UserCache userCache,
+            TodoCache todoCache,
+            @Value("${user.nickname-autocomplete.max-limit:20}") int autocompleteMaxLimit,
+            @Value("${user.batch-lookup.max-ids:500}") int batchMaxIds
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.nicknameIndex = nicknameIndex;
+        this.userCache = userCache;
+        this.todoCache = todoCache;
+        this.autocompleteMaxLimit = autocompleteMaxLimit;
+        this.batchMaxIds = batchMaxIds;
+    }
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    // 요청한 순서대로 응답하고(중복 id 는 한 번만), 존재하지 않는 id 는 missingIds 로 알려줌
+    public UserBatchResponse getUsers(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new InvalidRequestException("조회할 유저 id 를 입력해주세요.");
+        }
+        if (userIds.size() > batchMaxIds) {
+            throw new InvalidRequestException("한 번에 최대 " + batchMaxIds + "명까지 조회할 수 있습니다.");
+        }
+
+        Set<Long> uniqueIds = new LinkedHashSet<>(userIds);
+        uniqueIds.remove(null);
+        Map<Long, UserResponse> foundUsers = userCache.getAll(uniqueIds, uncachedIds ->
+                userRepository.findResponsesByIdIn(List.copyOf(uncachedIds)).stream()
+                        .collect(Collectors.toMap(UserResponse::getId, Function.identity())));
+
+        List<UserResponse> users = new ArrayList<>(uniqueIds.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long userId : uniqueIds) {
+            UserResponse user = foundUsers.get(userId);
+            if (user == null) {
+                missingIds.add(userId);
+            } else {
+                users.add(user);
+            }
+        }
+        return new UserBatchResponse(users, missingIds);
+    }
+
+    // 해싱이 트랜잭션 안에서 실행되지 않도록 트랜잭션 없이 조회/해싱 후 조건부 UPDATE 로 저장
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validateNewPassword(userChangePasswordRequest);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
+        if (passwordHasher.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
             throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
         }
 
-        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String encodedPassword = passwordHasher.encode(userChangePasswordRequest.getNewPassword());
+        if (userRepository.updatePassword(user.getId(), user.getPassword(), encodedPassword) == 0) {
+            throw new InvalidRequestException("비밀번호가 이미 변경되었습니다. 다시 시도해주세요.");
+        }
+        todoCache.evictByUserIdAfterCommit(user.getId());
+    }
+
+    private static long decodeCursor(String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
     }
 
     private static void validateNewPassword(UserChangePasswordRequest userChangePasswordRequest) {
@@ -51,8 +132,18 @@ public class UserService {
         }
     }
 
-    public List<UserResponse> searchUserWithIndex(String nickname) {
-        List<User> findUsers = userRepository.findByNickname(nickname);
-        return findUsers.stream().map(user -> new UserResponse(user.getId(), user.getEmail())).toList();
+    public CursorResponse<UserResponse> searchUserWithIndex(String nickname, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, SEARCH_MAX_SIZE));
+        long lastId = decodeCursor(cursor);
+
+        List<UserResponse> rows = userRepository.findByNicknameAfterId(nickname, lastId, PageRequest.of(0, pageSize + 1));
+        return CursorResponse.of(rows, pageSize, user -> String.valueOf(user.getId()));
+    }
+
+    public List<UserNicknameResponse> autocompleteNicknames(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidRequestException("검색할 닉네임을 입력해주세요.");
+        }
+        return nicknameIndex.findByPrefix(prefix, Math.max(1, Math.min(limit, autocompleteMaxLimit)));
     }
 }
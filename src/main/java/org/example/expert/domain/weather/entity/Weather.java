@@ -0,0 +1,24 @@
+package org.example.expert.domain.weather.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일정의 날씨 문자열을 정규화한 사전 테이블 (종류가 적어 애플리케이션 메모리에 모두 올려 사용)
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "weathers")
+public class Weather {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+
+    public Weather(String name) {
+        this.name = name;
+    }
+}
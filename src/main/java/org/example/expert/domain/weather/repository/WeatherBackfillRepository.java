@@ -0,0 +1,45 @@
+package org.example.expert.domain.weather.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class WeatherBackfillRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public int saveMissingWeathers() {
+        String sql = "INSERT INTO weathers (name) " +
+                "SELECT DISTINCT t.weather FROM todos t " +
+                "WHERE t.weather IS NOT NULL " +
+                "AND NOT EXISTS (SELECT 1 FROM weathers w WHERE w.name = t.weather)";
+
+        return jdbcTemplate.update(sql);
+    }
+
+    // idx_todo_weather_id_modified_at 의 선두 컬럼이 weather_id 이므로 전체를 읽지 않고 확인
+    public boolean existsTodoWithoutWeatherId() {
+        return !jdbcTemplate.queryForList(
+                "SELECT 1 FROM todos WHERE weather_id IS NULL AND weather IS NOT NULL LIMIT 1", Integer.class).isEmpty();
+    }
+
+    public long findMaxTodoId() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject("SELECT MAX(id) FROM todos", Long.class))
+                .orElse(0L);
+    }
+
+    @Transactional
+    public int updateTodoWeatherIds(long fromIdExclusive, long toIdInclusive) {
+        String sql = "UPDATE todos SET weather_id = (SELECT w.id FROM weathers w WHERE w.name = todos.weather) " +
+                "WHERE weather_id IS NULL AND weather IS NOT NULL " +
+                "AND id > ? AND id <= ?";
+
+        return jdbcTemplate.update(sql, fromIdExclusive, toIdInclusive);
+    }
+}
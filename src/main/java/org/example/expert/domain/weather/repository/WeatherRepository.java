@@ -0,0 +1,10 @@
+package org.example.expert.domain.weather.repository;
+
+import org.example.expert.domain.weather.entity.Weather;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface WeatherRepository extends JpaRepository<Weather, Long> {
+    Optional<Weather> findByName(String name);
+}
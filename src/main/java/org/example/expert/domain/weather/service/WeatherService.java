@@ -0,0 +1,138 @@
+package org.example.expert.domain.weather.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.weather.entity.Weather;
+import org.example.expert.domain.weather.repository.WeatherBackfillRepository;
+import org.example.expert.domain.weather.repository.WeatherRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class WeatherService {
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final WeatherRepository weatherRepository;
+    private final WeatherBackfillRepository weatherBackfillRepository;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+    private final Duration reloadInterval;
+    private final boolean backfillOnStartup;
+
+    private final Map<String, Long> weatherIds = new ConcurrentHashMap<>();
+    private volatile long lastLoadedAt;
+
+    public WeatherService(
+            WeatherRepository weatherRepository,
+            WeatherBackfillRepository weatherBackfillRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${weather.dictionary.reload-interval:1m}") Duration reloadInterval,
+            @Value("${weather.backfill.on-startup:true}") boolean backfillOnStartup
+    ) {
+        this.weatherRepository = weatherRepository;
+        this.weatherBackfillRepository = weatherBackfillRepository;
+        this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reloadInterval = reloadInterval;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @PostConstruct
+    public void load() {
+        weatherRepository.findAll().forEach(weather -> weatherIds.put(weather.getName(), weather.getId()));
+        lastLoadedAt = System.currentTimeMillis();
+    }
+
+    // 날씨 필터는 weather_id 로만 조회하므로, 사전 도입 이전 일정이 남아 있으면 기동 시 백그라운드로 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!backfillOnStartup) {
+            return;
+        }
+
+        Thread backfill = new Thread(this::backfillIfMissing, "weather-backfill");
+        backfill.setDaemon(true);
+        backfill.start();
+    }
+
+    public Long getOrCreateId(String name) {
+        Long weatherId = weatherIds.get(name);
+        if (weatherId != null) {
+            return weatherId;
+        }
+
+        weatherId = weatherRepository.findByName(name)
+                .map(Weather::getId)
+                .orElseGet(() -> create(name));
+        weatherIds.put(name, weatherId);
+        return weatherId;
+    }
+
+    // 기존 LIKE '%x%' 와 같은 부분 일치(대소문자 무시)를 메모리의 사전에서 처리해 날씨 id 목록으로 변환
+    public List<Long> findIdsContaining(String keyword) {
+        reloadIfStale();
+
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        return weatherIds.entrySet().stream()
+                .filter(entry -> entry.getKey().toLowerCase(Locale.ROOT).contains(lowerKeyword))
+                .map(Map.Entry::getValue)
+                .toList();
+    }
+
+    // 사전 도입 이전에 저장된 일정의 weather_id 를 채웁니다.
+    public long backfillTodoWeatherIds() {
+        long startTime = System.currentTimeMillis();
+        weatherBackfillRepository.saveMissingWeathers();
+        load();
+
+        long maxTodoId = weatherBackfillRepository.findMaxTodoId();
+        long updatedCount = 0;
+        for (long fromId = 0; fromId < maxTodoId; fromId += BACKFILL_BATCH_SIZE) {
+            updatedCount += weatherBackfillRepository.updateTodoWeatherIds(fromId, Math.min(fromId + BACKFILL_BATCH_SIZE, maxTodoId));
+        }
+
+        log.info("todo weather backfill - updated : {}, processing Time : {}", updatedCount, System.currentTimeMillis() - startTime);
+        return updatedCount;
+    }
+
+    void backfillIfMissing() {
+        try {
+            if (weatherBackfillRepository.existsTodoWithoutWeatherId()) {
+                backfillTodoWeatherIds();
+            }
+        } catch (RuntimeException e) {
+            log.error("todo weather backfill failed", e);
+        }
+    }
+
+    // 다른 인스턴스가 추가한 날씨도 필터에 반영되도록 주기적으로 사전을 다시 읽음
+    private void reloadIfStale() {
+        if (System.currentTimeMillis() - lastLoadedAt >= reloadInterval.toMillis()) {
+            load();
+        }
+    }
+
+    // 일정 저장 트랜잭션이 유니크 제약 위반으로 rollback-only 가 되지 않도록 별도 트랜잭션에서 생성
+    private Long create(String name) {
+        try {
+            return requiresNewTransactionTemplate.execute(status -> weatherRepository.save(new Weather(name)).getId());
+        } catch (DataIntegrityViolationException e) {
+            return weatherRepository.findByName(name)
+                    .map(Weather::getId)
+                    .orElseThrow(() -> e);
+        }
+    }
+}
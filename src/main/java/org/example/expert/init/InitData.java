@@ -1,50 +1,115 @@
 package org.example.expert.init;
 
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import net.datafaker.Faker;
-import org.example.expert.domain.user.entity.User;
-import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.service.EmailFilter;
+import org.example.expert.domain.user.service.NicknameIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+// 더미 유저 시드를 기동 경로가 아닌 백그라운드 작업으로 실행 (관리자 API 로 시작/조회/취소)
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class InitData {
 
-    private final InitDataRepository initDataRepository;
+    private final UserSeeder userSeeder;
+    private final NicknameIndex nicknameIndex;
+    private final EmailFilter emailFilter;
+    private final boolean autoStart;
+    private final int defaultTotalRows;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-seed");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    @PostConstruct
-    @Transactional
-    public void init() {
-        long startTime = System.currentTimeMillis();
+    private volatile SeedProgress progress;
+
+    public InitData(
+            UserSeeder userSeeder,
+            NicknameIndex nicknameIndex,
+            EmailFilter emailFilter,
+            @Value("${init.seed.auto-start:false}") boolean autoStart,
+            @Value("${init.seed.total:1000000}") int defaultTotalRows
+    ) {
+        this.userSeeder = userSeeder;
+        this.nicknameIndex = nicknameIndex;
+        this.emailFilter = emailFilter;
+        this.autoStart = autoStart;
+        this.defaultTotalRows = defaultTotalRows;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void autoStart() {
+        if (autoStart) {
+            start(null);
+        }
+    }
 
-        final int MAX_DATA_SIZE = 1000000;
-        final int BATCH_SIZE = 10000;
-        final String EMAIL_SUFFIX = "@test.com";
-        final String PASSWORD = "Abc1234!";
-
-        List<User> userList = new ArrayList<>();
-        Faker faker = new Faker();
-
-        for (int i = 0; i < MAX_DATA_SIZE; i++) {
-            userList.add(new User(
-                    faker.name().firstName() + i + EMAIL_SUFFIX,
-                    PASSWORD,
-                    UserRole.ROLE_USER,
-                    faker.color().name() + faker.name().lastName() + faker.name().firstName()
-            ));
+    public synchronized SeedStatusResponse start(Integer totalRows) {
+        if (progress != null && progress.isRunning()) {
+            throw new InvalidRequestException("이미 실행 중인 시드 작업이 있습니다.");
         }
 
-        initDataRepository.saveAll(userList, BATCH_SIZE);
+        int rows = totalRows == null ? defaultTotalRows : totalRows;
+        SeedProgress started = new SeedProgress(rows);
+        progress = started;
+        executor.execute(() -> run(rows, started));
+        return started.toResponse();
+    }
+
+    public SeedStatusResponse getStatus() {
+        SeedProgress current = progress;
+        if (current == null) {
+            return SeedProgress.idleResponse();
+        }
+        return current.toResponse();
+    }
+
+    public SeedStatusResponse cancel() {
+        SeedProgress current = progress;
+        if (current == null || !current.isRunning()) {
+            throw new InvalidRequestException("실행 중인 시드 작업이 없습니다.");
+        }
+        current.cancel();
+        return current.toResponse();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        SeedProgress current = progress;
+        if (current != null) {
+            current.cancel();
+        }
+        executor.shutdown();
+    }
+
+    private void run(int totalRows, SeedProgress seedProgress) {
+        long startTime = System.currentTimeMillis();
+        try {
+            userSeeder.seed(totalRows, seedProgress);
+            // 시드 유저는 JDBC 배치로 저장되어 가입 경로를 거치지 않으므로 메모리 인덱스를 다시 만듦
+            nicknameIndex.rebuild();
+            emailFilter.rebuild();
+            seedProgress.finish(seedProgress.isCancelRequested() ? SeedProgress.State.CANCELLED : SeedProgress.State.COMPLETED, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            seedProgress.finish(SeedProgress.State.CANCELLED, null);
+        } catch (RuntimeException e) {
+            log.error("user seed failed", e);
+            seedProgress.finish(SeedProgress.State.FAILED, e.getMessage());
+        }
 
         long endTime = System.currentTimeMillis();
 
-        log.info("processing Time : {}", endTime - startTime);
+        SeedStatusResponse status = seedProgress.toResponse();
+        log.info("user seed {} - rows : {}, skipped : {}, processing Time : {}",
+                status.getState(), status.getWrittenRows(), status.getSkippedRows(), endTime - startTime);
     }
 }
@@ -0,0 +1,30 @@
+package org.example.expert.init;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class InitDataAdminController {
+
+    private final InitData initData;
+
+    @PostMapping("/admin/seed/users/start")
+    public ResponseEntity<SeedStatusResponse> start(@RequestParam(required = false) Integer totalRows) {
+        return ResponseEntity.ok(initData.start(totalRows));
+    }
+
+    @GetMapping("/admin/seed/users/status")
+    public ResponseEntity<SeedStatusResponse> getStatus() {
+        return ResponseEntity.ok(initData.getStatus());
+    }
+
+    @PostMapping("/admin/seed/users/cancel")
+    public ResponseEntity<SeedStatusResponse> cancel() {
+        return ResponseEntity.ok(initData.cancel());
+    }
+}
@@ -7,7 +7,11 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
@@ -47,4 +51,20 @@ public class InitDataRepository {
 //                    }
 //                });
     }
+
+    // chunk 저장과 완료 기록을 한 트랜잭션으로 묶어, 재시작 시 기록된 chunk 는 모두 저장된 것으로 볼 수 있게 함
+    @Transactional
+    public void saveChunk(List<User> userList, int fromIndex, int toIndex) {
+        saveAll(userList, userList.size());
+        jdbcTemplate.update("INSERT INTO seed_chunks (from_index, to_index, completed_at) VALUES (?, ?, ?)",
+                fromIndex, toIndex, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public Map<Integer, Integer> findCompletedChunks() {
+        Map<Integer, Integer> completedChunks = new HashMap<>();
+        jdbcTemplate.query("SELECT from_index, to_index FROM seed_chunks", rs -> {
+            completedChunks.put(rs.getInt("from_index"), rs.getInt("to_index"));
+        });
+        return completedChunks;
+    }
 }
@@ -0,0 +1,24 @@
+package org.example.expert.init;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 저장이 끝난 시드 chunk 의 범위. chunk 와 같은 트랜잭션에서 기록되므로, 중단 후 다시 시작하면 기록된 범위는 건너뜀
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "seed_chunks")
+public class SeedChunk {
+
+    @Id
+    private Integer fromIndex;
+
+    @Column(nullable = false)
+    private Integer toIndex;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+}
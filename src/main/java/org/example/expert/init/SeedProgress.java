@@ -0,0 +1,68 @@
+package org.example.expert.init;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 실행 중인 시드 작업의 진행 상황. writer 스레드가 갱신하고 상태 조회 API 가 읽음
+public class SeedProgress {
+
+    // IDLE 은 아직 한 번도 실행하지 않은 상태로, 상태 조회 응답에만 사용
+    public enum State {
+        IDLE, RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    private final int totalRows;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong writtenRows = new AtomicLong();
+    private final AtomicLong skippedRows = new AtomicLong();
+    private volatile boolean cancelRequested;
+    private volatile State state = State.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public SeedProgress(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public void addWritten(int rows) {
+        writtenRows.addAndGet(rows);
+    }
+
+    public void addSkipped(int rows) {
+        skippedRows.addAndGet(rows);
+    }
+
+    public void cancel() {
+        cancelRequested = true;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    public void finish(State state, String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.state = state;
+    }
+
+    public static SeedStatusResponse idleResponse() {
+        return new SeedStatusResponse(State.IDLE.name(), 0, 0, 0, null, null, null);
+    }
+
+    public SeedStatusResponse toResponse() {
+        return new SeedStatusResponse(
+                state.name(),
+                totalRows,
+                writtenRows.get(),
+                skippedRows.get(),
+                startedAt,
+                finishedAt,
+                error
+        );
+    }
+}
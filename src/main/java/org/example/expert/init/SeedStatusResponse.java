@@ -0,0 +1,18 @@
+package org.example.expert.init;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public class SeedStatusResponse {
+    private final String state;
+    private final int totalRows;
+    private final long writtenRows;
+    private final long skippedRows;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final String error;
+}
@@ -0,0 +1,130 @@
+package org.example.expert.init;
+
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 더미 유저를 chunk 단위로 만들어 제한된 큐에 넣고, 여러 writer 스레드가 각자의 커넥션에서 JDBC 배치로 저장
+// 큐 크기만큼의 chunk 만 메모리에 올라가므로 전체 건수와 관계없이 메모리 사용량이 일정
+@Slf4j
+@Component
+public class UserSeeder {
+
+    private static final String EMAIL_SUFFIX = "@test.com";
+    private static final String PASSWORD = "Abc1234!";
+    private static final Chunk END_OF_DATA = new Chunk(-1, -1, List.of());
+
+    private record Chunk(int fromIndex, int toIndex, List<User> users) {
+    }
+
+    private final InitDataRepository initDataRepository;
+    private final int chunkSize;
+    private final int writerCount;
+
+    public UserSeeder(
+            InitDataRepository initDataRepository,
+            @Value("${init.seed.chunk-size:5000}") int chunkSize,
+            @Value("${init.seed.writers:4}") int writerCount
+    ) {
+        this.initDataRepository = initDataRepository;
+        this.chunkSize = chunkSize;
+        this.writerCount = writerCount;
+    }
+
+    // 이전 실행에서 완료된 chunk 는 건너뛰므로, 재시작할 때는 같은 chunk-size 를 유지해야 합니다.
+    // 취소가 요청되면 새 chunk 를 만들지 않고, 이미 큐에 들어간 chunk 까지만 저장한 뒤 종료
+    public void seed(int totalRows, SeedProgress progress) throws InterruptedException {
+        Map<Integer, Integer> completedChunks = initDataRepository.findCompletedChunks();
+        BlockingQueue<Chunk> chunks = new ArrayBlockingQueue<>(writerCount * 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService writers = Executors.newFixedThreadPool(writerCount,
+                runnable -> new Thread(runnable, "user-seed-writer-" + threadNumber.incrementAndGet()));
+
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < writerCount; i++) {
+                futures.add(writers.submit(() -> write(chunks, progress)));
+            }
+
+            Faker faker = new Faker();
+            for (int from = 0; from < totalRows && !progress.isCancelRequested(); from += chunkSize) {
+                int to = Math.min(from + chunkSize, totalRows);
+                if (completedChunks.getOrDefault(from, -1) == to) {
+                    progress.addSkipped(to - from);
+                    continue;
+                }
+                put(chunks, new Chunk(from, to, generate(faker, from, to)), futures);
+            }
+            for (int i = 0; i < writerCount; i++) {
+                put(chunks, END_OF_DATA, futures);
+            }
+
+            for (Future<Long> future : futures) {
+                getResult(future);
+            }
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    private List<User> generate(Faker faker, int fromIndex, int toIndex) {
+        List<User> users = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            users.add(new User(
+                    faker.name().firstName() + i + EMAIL_SUFFIX,
+                    PASSWORD,
+                    UserRole.ROLE_USER,
+                    faker.color().name() + faker.name().lastName() + faker.name().firstName()
+            ));
+        }
+        return users;
+    }
+
+    // writer 가 실패해 큐가 비워지지 않으면 생산자가 영원히 대기하므로, 기다리는 동안 writer 의 실패를 확인
+    private void put(BlockingQueue<Chunk> chunks, Chunk chunk, List<Future<Long>> futures) throws InterruptedException {
+        while (!chunks.offer(chunk, 1, TimeUnit.SECONDS)) {
+            for (Future<Long> future : futures) {
+                if (future.isDone()) {
+                    getResult(future);
+                }
+            }
+        }
+    }
+
+    private long write(BlockingQueue<Chunk> chunks, SeedProgress progress) throws InterruptedException {
+        long startTime = System.nanoTime();
+        long writtenRows = 0;
+
+        while (true) {
+            Chunk chunk = chunks.take();
+            if (chunk == END_OF_DATA) {
+                break;
+            }
+            initDataRepository.saveChunk(chunk.users(), chunk.fromIndex(), chunk.toIndex());
+            writtenRows += chunk.users().size();
+            progress.addWritten(chunk.users().size());
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        log.info("{} - rows : {}, rows/sec : {}", Thread.currentThread().getName(), writtenRows,
+                Math.round(writtenRows / Math.max(elapsedSeconds, 0.001)));
+        return writtenRows;
+    }
+
+    private long getResult(Future<Long> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("유저 데이터 저장에 실패했습니다.", e.getCause());
+        }
+    }
+}
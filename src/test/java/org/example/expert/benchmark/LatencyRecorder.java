@@ -0,0 +1,36 @@
+package org.example.expert.benchmark;
+
+import java.util.Arrays;
+
+// 벤치마크 테스트에서 반복 실행한 작업의 평균/백분위 지연 시간을 계산하기 위한 도우미
+public class LatencyRecorder {
+
+    private final long[] elapsedNanos;
+    private int count;
+
+    public LatencyRecorder(int capacity) {
+        this.elapsedNanos = new long[capacity];
+    }
+
+    public void record(Runnable task) {
+        long startTime = System.nanoTime();
+        task.run();
+        elapsedNanos[count++] = System.nanoTime() - startTime;
+    }
+
+    public double averageMillis() {
+        return Arrays.stream(elapsedNanos, 0, count).average().orElse(0) / 1_000_000.0;
+    }
+
+    public double percentileMillis(double percentile) {
+        long[] sorted = Arrays.copyOf(elapsedNanos, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    public String summary(String name) {
+        return String.format("%s - runs : %d, avg : %.3fms, p50 : %.3fms, p99 : %.3fms",
+                name, count, averageMillis(), percentileMillis(50), percentileMillis(99));
+    }
+}
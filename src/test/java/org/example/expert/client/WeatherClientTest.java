@@ -0,0 +1,106 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherClientTest {
+
+    private static final String FALLBACK_WEATHER = "Unknown";
+    private static final int FAILURE_THRESHOLD = 3;
+
+    private WeatherStubServer weatherStubServer;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        weatherStubServer = new WeatherStubServer();
+        weatherClient = new WeatherClient(
+                new RestTemplate(),
+                new SimpleMeterRegistry(),
+                weatherStubServer.url(),
+                FALLBACK_WEATHER,
+                FAILURE_THRESHOLD,
+                Duration.ofMinutes(1)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        weatherStubServer.close();
+    }
+
+    @Test
+    void 오늘_날씨를_한_번만_받아와_캐시된_값으로_응답한다() {
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(first).isEqualTo(WeatherStubServer.TODAY_WEATHER);
+        assertThat(second).isEqualTo(WeatherStubServer.TODAY_WEATHER);
+        assertThat(weatherStubServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 날씨_API_가_계속_실패하면_대체_값을_반환하고_회로를_연다() {
+        // given
+        weatherStubServer.setStatusCode(500);
+
+        // when
+        for (int i = 0; i < FAILURE_THRESHOLD + 2; i++) {
+            assertThat(weatherClient.getTodayWeather()).isEqualTo(FALLBACK_WEATHER);
+        }
+
+        // then
+        assertThat(weatherClient.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(weatherStubServer.getRequestCount()).isEqualTo(FAILURE_THRESHOLD);
+    }
+
+    @Test
+    void 받아온_데이터에_오늘_날짜가_없으면_대체_값을_반환한다() {
+        // given
+        weatherStubServer.setIncludeToday(false);
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(weather).isEqualTo(FALLBACK_WEATHER);
+    }
+
+    @Test
+    void 호출을_기다리던_요청들은_먼저_호출한_요청이_실패하면_다시_호출하지_않고_대체_값을_사용한다() throws Exception {
+        // given
+        weatherStubServer.setStatusCode(500);
+        weatherStubServer.setDelayMillis(300);
+        int concurrentRequests = FAILURE_THRESHOLD + 2;
+        ExecutorService executor = Executors.newFixedThreadPool(concurrentRequests);
+
+        // when
+        List<Callable<String>> requests = IntStream.range(0, concurrentRequests)
+                .<Callable<String>>mapToObj(i -> weatherClient::getTodayWeather)
+                .toList();
+        List<Future<String>> results = executor.invokeAll(requests);
+        executor.shutdown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo(FALLBACK_WEATHER);
+        }
+        assertThat(weatherStubServer.getRequestCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 실제 날씨 API 대신 사용하는 로컬 stub 서버 (응답 지연과 실패를 조절할 수 있음)
+public class WeatherStubServer implements AutoCloseable {
+
+    public static final String TODAY_WEATHER = "Sunny";
+
+    private final HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private volatile long delayMillis;
+    private volatile int statusCode = 200;
+    private volatile boolean includeToday = true;
+
+    public WeatherStubServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            inFlightCount.incrementAndGet();
+            try {
+                sleep(delayMillis);
+
+                byte[] body = statusCode == 200 ? weatherJson(includeToday).getBytes(StandardCharsets.UTF_8) : new byte[0];
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(statusCode, body.length == 0 ? -1 : body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            } finally {
+                inFlightCount.decrementAndGet();
+            }
+        });
+        this.server.start();
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    public void setStatusCode(int statusCode) {
+        this.statusCode = statusCode;
+    }
+
+    // false 면 오늘 대신 내일 날짜의 날씨만 응답
+    public void setIncludeToday(boolean includeToday) {
+        this.includeToday = includeToday;
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    // 응답을 아직 보내지 않은 요청 수 (지연 중인 호출이 있는지 확인할 때 사용)
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static String weatherJson(boolean includeToday) {
+        LocalDate date = includeToday ? LocalDate.now() : LocalDate.now().plusDays(1);
+        String formattedDate = date.format(DateTimeFormatter.ofPattern("MM-dd"));
+        return "[{\"date\":\"" + formattedDate + "\",\"weather\":\"" + TODAY_WEATHER + "\"}]";
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.benchmark.LatencyRecorder;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// JMH 를 빌드에 추가하지 않고 다른 벤치마크와 같은 방식(LatencyRecorder)으로 워밍업 후 반복 실행해 지연 시간을 비교합니다.
+// 매 실행마다 응답 상태를 확인하므로 JIT 가 필터 호출을 제거할 수 없습니다. BENCHMARK=true 로 실행합니다.
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class JwtFilterBenchmarkTest {
+
+    private static final int WARM_UP = 10_000;
+    private static final int RUNS = 100_000;
+    // 한 토큰만 반복하지 않고 여러 사용자의 토큰을 번갈아 보내며, 결과가 어떤 적중률에서 나온 것인지 함께 기록
+    private static final int TOKEN_COUNT = 1_000;
+
+    private JwtUtil jwtUtil;
+    private TokenRevocationService tokenRevocationService;
+    private String[] bearerTokens;
+
+    @BeforeEach
+    void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret));
+        jwtUtil.init();
+        // 폐기 확인은 두 경로에 같게 적용되므로 비교에서 제외 (mock 은 항상 false 반환)
+        tokenRevocationService = mock(TokenRevocationService.class);
+        bearerTokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            bearerTokens[i] = jwtUtil.createToken((long) i + 1, "user" + i + "@example.com", UserRole.ROLE_USER, "nickname");
+        }
+    }
+
+    @Test
+    void 캐시_사용_여부에_따른_JwtFilter_지연_시간을_비교한다() {
+        measure("without cache", false);
+        measure("with cache   ", true);
+    }
+
+    private void measure(String name, boolean cacheEnabled) {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtFilter jwtFilter = new JwtFilter(jwtUtil, new JwtAuthenticationCache(meterRegistry, cacheEnabled, 100_000), tokenRevocationService);
+
+        for (int i = 0; i < WARM_UP; i++) {
+            doFilter(jwtFilter, bearerTokens[i % TOKEN_COUNT]);
+        }
+
+        LatencyRecorder recorder = new LatencyRecorder(RUNS);
+        for (int i = 0; i < RUNS; i++) {
+            String bearerToken = bearerTokens[i % TOKEN_COUNT];
+            recorder.record(() -> doFilter(jwtFilter, bearerToken));
+        }
+
+        double hits = meterRegistry.get("cache.gets").tags("cache", "jwt", "result", "hit").functionCounter().count();
+        double misses = meterRegistry.get("cache.gets").tags("cache", "jwt", "result", "miss").functionCounter().count();
+        log.info("{}, tokens : {}, hit ratio : {}", recorder.summary(name), TOKEN_COUNT,
+                hits + misses == 0 ? 0 : hits / (hits + misses));
+    }
+
+    private void doFilter(JwtFilter jwtFilter, String bearerToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            jwtFilter.doFilter(request, response, new MockFilterChain());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ServletException e) {
+            throw new IllegalStateException(e);
+        }
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        SecurityContextHolder.clearContext();
+    }
+}
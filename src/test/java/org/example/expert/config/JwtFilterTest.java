@@ -0,0 +1,105 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtFilterTest {
+
+    private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+    private final FilterChain chain = mock(FilterChain.class);
+
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret));
+        jwtUtil.init();
+        jwtFilter = new JwtFilter(jwtUtil, new JwtAuthenticationCache(new SimpleMeterRegistry(), true, 100), tokenRevocationService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 폐기되지_않은_토큰은_인증_정보를_설정하고_다음_필터로_넘긴다() throws Exception {
+        // given
+        MockHttpServletRequest request = request(jwtUtil.createToken(1L, "user@example.com", UserRole.ROLE_USER, "nickname"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        verify(chain).doFilter(request, response);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    void 폐기된_jti_의_토큰은_401_을_반환한다() throws Exception {
+        // given
+        String bearerToken = jwtUtil.createToken(1L, "user@example.com", UserRole.ROLE_USER, "nickname");
+        String jti = jwtUtil.extractClaims(jwtUtil.substringToken(bearerToken)).getId();
+        when(tokenRevocationService.isRevoked(jti)).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request(bearerToken), response, chain);
+
+        // then
+        verify(chain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getErrorMessage()).isEqualTo("폐기된 JWT 토큰입니다.");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void 캐시된_토큰도_폐기된_뒤에는_401_을_반환한다() throws Exception {
+        // given - 첫 요청으로 검증 결과가 캐시됨
+        String bearerToken = jwtUtil.createToken(1L, "user@example.com", UserRole.ROLE_USER, "nickname");
+        jwtFilter.doFilter(request(bearerToken), new MockHttpServletResponse(), chain);
+        when(tokenRevocationService.isRevoked(anyString())).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request(bearerToken), response, chain);
+
+        // then
+        verify(chain, times(1)).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    private MockHttpServletRequest request(String bearerToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", bearerToken);
+        return request;
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PasswordHasherTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    // 해싱 스레드를 붙잡아 두기 위한 latch
+    private final CountDownLatch hashingStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseHashing = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        releaseHashing.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void 해싱_결과를_그대로_반환한다() {
+        // given
+        PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1, Duration.ofSeconds(1));
+        when(passwordEncoder.encode("password")).thenReturn("encoded");
+        when(passwordEncoder.matches("password", "encoded")).thenReturn(true);
+
+        // when & then
+        assertThat(passwordHasher.encode("password")).isEqualTo("encoded");
+        assertThat(passwordHasher.matches("password", "encoded")).isTrue();
+    }
+
+    @Test
+    void 해싱은_별도_스레드로_넘기지_않고_요청_스레드에서_실행한다() {
+        // given
+        PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1, Duration.ofSeconds(1));
+        when(passwordEncoder.encode("password")).thenAnswer(invocation -> Thread.currentThread().getName());
+
+        // when
+        String hashingThread = passwordHasher.encode("password");
+
+        // then
+        assertThat(hashingThread).isEqualTo(Thread.currentThread().getName());
+        assertThat(meterRegistry.get("bcrypt.active").gauge().value()).isZero();
+    }
+
+    @Test
+    void 실행_중인_해싱과_대기열이_가득_차면_기다리지_않고_503_예외를_던진다() throws Exception {
+        // given
+        PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5));
+        blockEncoding();
+
+        Future<String> running = callers.submit(() -> passwordHasher.encode("running"));
+        assertThat(hashingStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        Future<String> queued = callers.submit(() -> passwordHasher.encode("queued"));
+        awaitQueued(1);
+
+        // when & then
+        long startTime = System.nanoTime();
+        assertThatThrownBy(() -> passwordHasher.encode("rejected"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.counter("bcrypt.rejected").count()).isEqualTo(1);
+
+        releaseHashing.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("encoded");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("encoded");
+    }
+
+    @Test
+    void timeout_안에_차례가_오지_않으면_503_예외를_던진다() throws Exception {
+        // given
+        PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 10, Duration.ofMillis(100));
+        blockEncoding();
+        callers.submit(() -> passwordHasher.encode("running"));
+        assertThat(hashingStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when & then - 먼저 호출한 쪽도 같은 timeout 으로 포기하므로 거절 수는 1 이상
+        assertThatThrownBy(() -> passwordHasher.encode("waiting"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.counter("bcrypt.rejected").count()).isGreaterThanOrEqualTo(1);
+    }
+
+    private void blockEncoding() {
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            hashingStarted.countDown();
+            releaseHashing.await();
+            return "encoded";
+        });
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (meterRegistry.get("bcrypt.waiting").gauge().value() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("허가를 기다리는 요청이 없습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
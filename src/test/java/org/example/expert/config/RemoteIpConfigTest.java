@@ -0,0 +1,71 @@
+package org.example.expert.config;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.RemoteIpValve;
+import org.apache.catalina.valves.ValveBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RemoteIpConfigTest {
+
+    @Test
+    void 신뢰하는_프록시에서_온_요청은_X_Forwarded_For_의_클라이언트_주소를_사용한다() throws Exception {
+        // given
+        RemoteIpValve valve = remoteIpValve("10\\.0\\.0\\.1");
+
+        // when
+        String remoteAddr = remoteAddrAfter(valve, "10.0.0.1", "203.0.113.7");
+
+        // then
+        assertThat(remoteAddr).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 신뢰하지_않는_주소에서_직접_온_요청의_X_Forwarded_For_는_무시한다() throws Exception {
+        // given
+        RemoteIpValve valve = remoteIpValve("10\\.0\\.0\\.1");
+
+        // when
+        String remoteAddr = remoteAddrAfter(valve, "198.51.100.9", "203.0.113.7");
+
+        // then
+        assertThat(remoteAddr).isEqualTo("198.51.100.9");
+    }
+
+    private RemoteIpValve remoteIpValve(String internalProxies) {
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
+        new RemoteIpConfig().remoteIpCustomizer(internalProxies, "").customize(factory);
+
+        return factory.getEngineValves().stream()
+                .filter(RemoteIpValve.class::isInstance)
+                .map(RemoteIpValve.class::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private String remoteAddrAfter(RemoteIpValve valve, String remoteAddr, String forwardedFor) throws Exception {
+        AtomicReference<String> resolved = new AtomicReference<>();
+        valve.setNext(new ValveBase() {
+            @Override
+            public void invoke(Request request, Response response) {
+                resolved.set(request.getRemoteAddr());
+            }
+        });
+
+        Request request = new Request(new Connector());
+        request.setCoyoteRequest(new org.apache.coyote.Request());
+        request.setRemoteAddr(remoteAddr);
+        request.setRemoteHost(remoteAddr);
+        request.getCoyoteRequest().getMimeHeaders().addValue("X-Forwarded-For").setString(forwardedFor);
+
+        valve.invoke(request, mock(Response.class));
+        return resolved.get();
+    }
+}
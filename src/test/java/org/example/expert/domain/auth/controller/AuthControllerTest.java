@@ -0,0 +1,90 @@
+package org.example.expert.domain.auth.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.JwtFilter;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.service.AuthRateLimiter;
+import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.mock.WithCustomMockUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AuthController.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtFilter.class))
+class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private AuthRateLimiter authRateLimiter;
+
+    @Test
+    @WithCustomMockUser
+    void 해싱_대기열이_가득_차면_503_으로_응답한다() throws Exception {
+        // given
+        SigninRequest signinRequest = new SigninRequest("email@test.com", "password");
+
+        // when
+        when(authService.signin(any(SigninRequest.class)))
+                .thenThrow(new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+
+        // then
+        mockMvc.perform(post("/auth/signin")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signinRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value(HttpStatus.SERVICE_UNAVAILABLE.name()))
+                .andExpect(jsonPath("$.code").value(HttpStatus.SERVICE_UNAVAILABLE.value()))
+                .andExpect(jsonPath("$.message").value("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @Test
+    @WithCustomMockUser
+    void 요청_제한을_넘으면_429_로_응답하고_로그인을_시도하지_않는다() throws Exception {
+        // given
+        SigninRequest signinRequest = new SigninRequest("email@test.com", "password");
+
+        // when
+        doThrow(new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."))
+                .when(authRateLimiter).check(anyString(), anyString());
+
+        // then
+        mockMvc.perform(post("/auth/signin")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signinRequest)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.status").value(HttpStatus.TOO_MANY_REQUESTS.name()))
+                .andExpect(jsonPath("$.code").value(HttpStatus.TOO_MANY_REQUESTS.value()))
+                .andExpect(jsonPath("$.message").value("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+        verify(authService, never()).signin(any(SigninRequest.class));
+    }
+}
@@ -0,0 +1,205 @@
+package org.example.expert.domain.auth.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordHasher;
+import org.example.expert.domain.auth.dto.request.RefreshTokenRequest;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.response.SigninResponse;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.EmailFilter;
+import org.example.expert.domain.user.service.NicknameIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordHasher passwordHasher;
+    @Mock
+    private JwtUtil jwtUtil;
+    @Mock
+    private RefreshTokenService refreshTokenService;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    @Mock
+    private NicknameIndex nicknameIndex;
+    @Mock
+    private EmailFilter emailFilter;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @Test
+    void 이전_cost_로_저장된_비밀번호는_로그인할_때_다시_해싱해_저장한다() {
+        // given
+        User user = user("$2a$04$oldHash");
+        when(emailFilter.mightExist("email@test.com")).thenReturn(true);
+        when(userRepository.findByEmail("email@test.com")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("password", "$2a$04$oldHash")).thenReturn(true);
+        when(passwordHasher.upgradeEncoding("$2a$04$oldHash")).thenReturn(true);
+        when(passwordHasher.encode("password")).thenReturn("$2a$10$newHash");
+        when(jwtUtil.createToken(1L, "email@test.com", UserRole.ROLE_USER, "nickname")).thenReturn("Bearer token");
+        when(refreshTokenService.issue(1L)).thenReturn("refresh");
+
+        // when
+        SigninResponse response = authService.signin(new SigninRequest("email@test.com", "password"));
+
+        // then
+        verify(userRepository).updatePassword(1L, "$2a$04$oldHash", "$2a$10$newHash");
+        assertThat(response.getBearerToken()).isEqualTo("Bearer token");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh");
+    }
+
+    @Test
+    void 현재_cost_로_저장된_비밀번호는_다시_해싱하지_않는다() {
+        // given
+        User user = user("$2a$10$currentHash");
+        when(emailFilter.mightExist("email@test.com")).thenReturn(true);
+        when(userRepository.findByEmail("email@test.com")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("password", "$2a$10$currentHash")).thenReturn(true);
+        when(passwordHasher.upgradeEncoding("$2a$10$currentHash")).thenReturn(false);
+
+        // when
+        authService.signin(new SigninRequest("email@test.com", "password"));
+
+        // then
+        verify(passwordHasher, never()).encode(anyString());
+        verify(userRepository, never()).updatePassword(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void 비밀번호가_틀리면_다시_해싱하지_않고_401_예외를_던진다() {
+        // given
+        User user = user("$2a$04$oldHash");
+        when(emailFilter.mightExist("email@test.com")).thenReturn(true);
+        when(userRepository.findByEmail("email@test.com")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("wrong", "$2a$04$oldHash")).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> authService.signin(new SigninRequest("email@test.com", "wrong")))
+                .isInstanceOf(AuthException.class);
+        verify(passwordHasher, never()).upgradeEncoding(any());
+        verify(userRepository, never()).updatePassword(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void filter_에_확실히_없는_이메일은_중복_조회_없이_가입한다() {
+        // given
+        SignupRequest signupRequest = new SignupRequest("email@test.com", "password", "ROLE_USER", "nickname");
+        when(emailFilter.mightExist("email@test.com")).thenReturn(false);
+        when(passwordHasher.encode("password")).thenReturn("encoded");
+        when(userRepository.save(any(User.class))).thenReturn(user("encoded"));
+
+        // when
+        authService.signup(signupRequest);
+
+        // then
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(emailFilter).add("email@test.com");
+        verify(nicknameIndex).add(1L, "nickname");
+    }
+
+    @Test
+    void 저장_중_같은_이메일이_먼저_가입되었으면_이메일_중복_예외를_던진다() {
+        // given
+        SignupRequest signupRequest = new SignupRequest("email@test.com", "password", "ROLE_USER", "nickname");
+        when(emailFilter.mightExist("email@test.com")).thenReturn(false);
+        when(passwordHasher.encode("password")).thenReturn("encoded");
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(userRepository.existsByEmail("email@test.com")).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> authService.signup(signupRequest))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("이미 존재하는 이메일입니다.");
+    }
+
+    @Test
+    void 이메일이_아닌_다른_제약_위반은_그대로_던진다() {
+        // given
+        SignupRequest signupRequest = new SignupRequest("email@test.com", "password", "ROLE_USER", "nickname");
+        when(emailFilter.mightExist("email@test.com")).thenReturn(false);
+        when(passwordHasher.encode("password")).thenReturn("encoded");
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("nickname too long"));
+        when(userRepository.existsByEmail("email@test.com")).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> authService.signup(signupRequest))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(emailFilter, never()).add(anyString());
+    }
+
+    @Test
+    void 로그아웃하면_액세스_토큰의_jti_와_본인의_리프레시_토큰을_폐기한다() {
+        // given
+        Claims claims = claims("1");
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        when(claims.getId()).thenReturn("jti");
+        when(claims.getExpiration()).thenReturn(Date.from(expiresAt));
+        when(jwtUtil.substringToken("Bearer token")).thenReturn("token");
+        when(jwtUtil.extractClaims("token")).thenReturn(claims);
+
+        // when
+        authService.signout("Bearer token", new RefreshTokenRequest("refresh"));
+
+        // then
+        verify(tokenRevocationService).revoke("jti", Date.from(expiresAt).toInstant());
+        verify(refreshTokenService).revoke("refresh", 1L);
+    }
+
+    @Test
+    void 만료된_액세스_토큰으로_로그아웃해도_토큰의_유저로_리프레시_토큰_소유자를_확인한다() {
+        // given
+        Claims claims = claims("1");
+        when(jwtUtil.substringToken("Bearer token")).thenReturn("token");
+        when(jwtUtil.extractClaims("token")).thenThrow(new ExpiredJwtException(null, claims, "expired"));
+
+        // when
+        authService.signout("Bearer token", new RefreshTokenRequest("refresh"));
+
+        // then
+        verify(tokenRevocationService, never()).revoke(anyString(), any());
+        verify(refreshTokenService).revoke("refresh", 1L);
+    }
+
+    private Claims claims(String subject) {
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(subject);
+        return claims;
+    }
+
+    private User user(String encodedPassword) {
+        User user = new User("email@test.com", encodedPassword, UserRole.ROLE_USER, "nickname");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTest {
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final RefreshTokenService refreshTokenService = new RefreshTokenService(refreshTokenRepository, Duration.ofDays(14));
+
+    // 저장된 토큰을 해시로 다시 찾을 수 있도록 메모리에 보관
+    private final Map<String, RefreshToken> savedTokens = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken refreshToken = invocation.getArgument(0);
+            ReflectionTestUtils.setField(refreshToken, "id", (long) savedTokens.size() + 1);
+            savedTokens.put(refreshToken.getTokenHash(), refreshToken);
+            return refreshToken;
+        });
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(savedTokens.get(invocation.<String>getArgument(0))));
+    }
+
+    @Test
+    void 토큰을_사용하면_폐기하고_소유자_id_를_반환하며_새_토큰은_다른_값으로_발급된다() {
+        // given
+        String rawToken = refreshTokenService.issue(1L);
+        RefreshToken refreshToken = savedTokens.values().iterator().next();
+        when(refreshTokenRepository.revoke(refreshToken.getId())).thenReturn(1);
+
+        // when
+        Long userId = refreshTokenService.consume(rawToken);
+        String rotatedToken = refreshTokenService.issue(userId);
+
+        // then
+        assertThat(userId).isEqualTo(1L);
+        verify(refreshTokenRepository).revoke(refreshToken.getId());
+        verify(refreshTokenRepository, never()).revokeAllByUserId(anyLong());
+        assertThat(rotatedToken).isNotEqualTo(rawToken);
+        assertThat(savedTokens).hasSize(2);
+        // DB 에는 원문 대신 해시만 저장
+        assertThat(savedTokens).doesNotContainKey(rawToken);
+    }
+
+    @Test
+    void 이미_폐기된_토큰이_다시_들어오면_해당_유저의_토큰을_모두_폐기한다() {
+        // given
+        String rawToken = refreshTokenService.issue(1L);
+        RefreshToken refreshToken = savedTokens.values().iterator().next();
+        ReflectionTestUtils.setField(refreshToken, "revoked", true);
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.consume(rawToken))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("이미 사용된 리프레시 토큰입니다.");
+        verify(refreshTokenRepository).revokeAllByUserId(1L);
+        verify(refreshTokenRepository, never()).revoke(anyLong());
+    }
+
+    @Test
+    void 동시_요청으로_조건부_폐기에_실패하면_해당_유저의_토큰을_모두_폐기한다() {
+        // given - 다른 요청이 먼저 폐기해 갱신된 행이 없음
+        String rawToken = refreshTokenService.issue(1L);
+        RefreshToken refreshToken = savedTokens.values().iterator().next();
+        when(refreshTokenRepository.revoke(refreshToken.getId())).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.consume(rawToken))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("이미 사용된 리프레시 토큰입니다.");
+        verify(refreshTokenRepository).revokeAllByUserId(1L);
+    }
+
+    @Test
+    void 만료된_토큰은_폐기하지_않고_거부한다() {
+        // given
+        String rawToken = refreshTokenService.issue(1L);
+        RefreshToken refreshToken = savedTokens.values().iterator().next();
+        ReflectionTestUtils.setField(refreshToken, "expiresAt", LocalDateTime.now().minusSeconds(1));
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.consume(rawToken))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("만료된 리프레시 토큰입니다.");
+        verify(refreshTokenRepository, never()).revoke(anyLong());
+        verify(refreshTokenRepository, never()).revokeAllByUserId(anyLong());
+    }
+
+    @Test
+    void 저장되지_않은_토큰은_거부한다() {
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.consume("unknown"))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("유효하지 않은 리프레시 토큰입니다.");
+    }
+
+    @Test
+    void 로그아웃은_본인의_리프레시_토큰만_폐기한다() {
+        // given
+        String rawToken = refreshTokenService.issue(1L);
+        RefreshToken refreshToken = savedTokens.values().iterator().next();
+
+        // when
+        refreshTokenService.revoke(rawToken, 1L);
+
+        // then
+        verify(refreshTokenRepository).revoke(refreshToken.getId());
+    }
+
+    @Test
+    void 다른_유저의_리프레시_토큰으로_로그아웃하면_폐기하지_않고_거부한다() {
+        // given
+        String rawToken = refreshTokenService.issue(1L);
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.revoke(rawToken, 2L))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("유효하지 않은 리프레시 토큰입니다.");
+        verify(refreshTokenRepository, never()).revoke(anyLong());
+    }
+}
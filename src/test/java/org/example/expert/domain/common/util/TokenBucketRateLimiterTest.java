@@ -0,0 +1,93 @@
+package org.example.expert.domain.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void 버킷_용량만큼은_연속으로_허용하고_그_다음_요청은_거부한다() {
+        // given
+        TokenBucketRateLimiter limiter = limiter(3, 1);
+
+        // when & then
+        assertThat(limiter.tryAcquire("key")).isTrue();
+        assertThat(limiter.tryAcquire("key")).isTrue();
+        assertThat(limiter.tryAcquire("key")).isTrue();
+        assertThat(limiter.tryAcquire("key")).isFalse();
+    }
+
+    @Test
+    void 시간이_지나면_초당_충전량만큼_다시_허용한다() {
+        // given
+        TokenBucketRateLimiter limiter = limiter(2, 1);
+        limiter.tryAcquire("key");
+        limiter.tryAcquire("key");
+
+        // when & then - 0.5초로는 토큰 한 개가 채워지지 않음
+        advance(500);
+        assertThat(limiter.tryAcquire("key")).isFalse();
+
+        advance(500);
+        assertThat(limiter.tryAcquire("key")).isTrue();
+        assertThat(limiter.tryAcquire("key")).isFalse();
+    }
+
+    @Test
+    void 오래_쉬어도_버킷_용량을_넘겨_충전하지_않는다() {
+        // given
+        TokenBucketRateLimiter limiter = limiter(2, 1);
+        limiter.tryAcquire("key");
+        limiter.tryAcquire("key");
+
+        // when
+        advance(60_000);
+
+        // then
+        assertThat(limiter.tryAcquire("key")).isTrue();
+        assertThat(limiter.tryAcquire("key")).isTrue();
+        assertThat(limiter.tryAcquire("key")).isFalse();
+    }
+
+    @Test
+    void 키마다_별도의_버킷을_사용한다() {
+        // given
+        TokenBucketRateLimiter limiter = limiter(1, 1);
+
+        // when & then
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+        assertThat(limiter.tryAcquire("b")).isTrue();
+    }
+
+    @Test
+    void 마지막_사용_후_idle_시간이_지난_버킷만_제거한다() {
+        // given
+        TokenBucketRateLimiter limiter = limiter(1, 1);
+        limiter.tryAcquire("old");
+        advance(10_000);
+        limiter.tryAcquire("recent");
+
+        // when
+        int evicted = limiter.evictIdle(TimeUnit.SECONDS.toNanos(5));
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("recent")).isFalse();
+    }
+
+    private TokenBucketRateLimiter limiter(long capacity, double tokensPerSecond) {
+        return new TokenBucketRateLimiter(capacity, tokensPerSecond, 4, now::get);
+    }
+
+    private void advance(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
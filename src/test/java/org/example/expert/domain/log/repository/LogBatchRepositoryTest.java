@@ -0,0 +1,87 @@
+package org.example.expert.domain.log.repository;
+
+import org.example.expert.domain.log.dto.LogEvent;
+import org.example.expert.domain.log.service.LogRetentionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:log-batch;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(LogBatchRepository.class)
+class LogBatchRepositoryTest {
+
+    @Autowired
+    private LogBatchRepository logBatchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 로그를_배치로_저장하면서_생성_수정_시각을_채운다() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 9, 1, 10, 0);
+
+        // when
+        logBatchRepository.saveAll(List.of(new LogEvent(true, createdAt), new LogEvent(false, createdAt)));
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM log WHERE created_at = ? AND modified_at = ?",
+                Long.class, createdAt, createdAt)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM log WHERE is_manager_registered = 1", Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    void 기준_시각_이전_로그를_지정한_건수만큼만_삭제한다() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.of(2024, 9, 1, 0, 0);
+        saveLogs(cutoff.minusDays(1), 3);
+        saveLogs(cutoff, 2);
+
+        // when
+        int deleted = logBatchRepository.deleteCreatedBefore(cutoff, 2);
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(countLogs()).isEqualTo(3);
+    }
+
+    @Test
+    void 보존_기간이_지난_로그를_배치_크기로_나누어_모두_삭제한다() {
+        // given
+        LogRetentionService logRetentionService = new LogRetentionService(logBatchRepository, Duration.ofDays(30), 2);
+        saveLogs(LocalDateTime.now().minusDays(31), 5);
+        saveLogs(LocalDateTime.now().minusDays(1), 2);
+
+        // when
+        long deletedCount = logRetentionService.purgeExpiredLogs();
+
+        // then
+        assertThat(deletedCount).isEqualTo(5);
+        assertThat(countLogs()).isEqualTo(2);
+    }
+
+    private void saveLogs(LocalDateTime createdAt, int count) {
+        List<LogEvent> logEvents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            logEvents.add(new LogEvent(i % 2 == 0, createdAt));
+        }
+        logBatchRepository.saveAll(logEvents);
+    }
+
+    private long countLogs() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM log", Long.class);
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.expert.domain.log.repository;
+
+import org.example.expert.domain.log.dto.response.LogRollupResponse;
+import org.example.expert.domain.log.enums.RollupUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:log-rollup;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(LogRollupRepository.class)
+class LogRollupRepositoryTest {
+
+    private static final LocalDateTime BUCKET = LocalDateTime.of(2024, 9, 1, 10, 0);
+
+    @Autowired
+    private LogRollupRepository logRollupRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void 구간에_집계가_없으면_새_행을_추가한다() {
+        // when
+        logRollupRepository.increment(RollupUnit.HOUR, BUCKET, 3, 1);
+
+        // then
+        List<LogRollupResponse> rollups = logRollupRepository.findAll(RollupUnit.HOUR, BUCKET, BUCKET.plusHours(1));
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getBucketStart()).isEqualTo(BUCKET);
+        assertThat(rollups.get(0).getSuccessCount()).isEqualTo(3);
+        assertThat(rollups.get(0).getFailureCount()).isEqualTo(1);
+        assertThat(rollups.get(0).getSuccessRate()).isEqualTo(0.75);
+    }
+
+    @Test
+    void 구간에_집계가_있으면_기존_행에_누적한다() {
+        // given
+        logRollupRepository.increment(RollupUnit.HOUR, BUCKET, 3, 1);
+
+        // when
+        logRollupRepository.increment(RollupUnit.HOUR, BUCKET, 2, 4);
+
+        // then
+        List<LogRollupResponse> rollups = logRollupRepository.findAll(RollupUnit.HOUR, BUCKET, BUCKET);
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getSuccessCount()).isEqualTo(5);
+        assertThat(rollups.get(0).getFailureCount()).isEqualTo(5);
+    }
+
+    @Test
+    void 다른_스레드가_먼저_INSERT_해_유니크_제약에_걸리면_다시_UPDATE_한다() {
+        // given - 첫 UPDATE 가 0 건을 반환한 직후 다른 트랜잭션이 같은 구간을 INSERT 한 상황을 재현
+        JdbcTemplate racingJdbcTemplate = new JdbcTemplate(dataSource) {
+            private boolean raced;
+
+            @Override
+            public int update(String sql, Object... args) {
+                if (!raced && sql.startsWith("UPDATE")) {
+                    raced = true;
+                    super.update("INSERT INTO log_rollups (unit, bucket_start, success_count, failure_count) " +
+                            "VALUES (?, ?, ?, ?)", RollupUnit.HOUR.name(), Timestamp.valueOf(BUCKET), 10, 0);
+                    return 0;
+                }
+                return super.update(sql, args);
+            }
+        };
+        LogRollupRepository racingRepository = new LogRollupRepository(racingJdbcTemplate);
+
+        // when
+        racingRepository.increment(RollupUnit.HOUR, BUCKET, 1, 2);
+
+        // then
+        List<LogRollupResponse> rollups = logRollupRepository.findAll(RollupUnit.HOUR, BUCKET, BUCKET);
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getSuccessCount()).isEqualTo(11);
+        assertThat(rollups.get(0).getFailureCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 단위와_기간이_일치하는_집계만_시간순으로_조회한다() {
+        // given
+        logRollupRepository.increment(RollupUnit.MINUTE, BUCKET.plusMinutes(1), 1, 0);
+        logRollupRepository.increment(RollupUnit.MINUTE, BUCKET, 1, 0);
+        logRollupRepository.increment(RollupUnit.MINUTE, BUCKET.plusHours(2), 1, 0);
+        logRollupRepository.increment(RollupUnit.HOUR, BUCKET, 2, 0);
+
+        // when
+        List<LogRollupResponse> rollups = logRollupRepository.findAll(RollupUnit.MINUTE, BUCKET, BUCKET.plusHours(1));
+
+        // then
+        assertThat(rollups).extracting(LogRollupResponse::getBucketStart)
+                .containsExactly(BUCKET, BUCKET.plusMinutes(1));
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.expert.domain.log.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.log.dto.LogEvent;
+import org.example.expert.domain.log.repository.LogBatchRepository;
+import org.example.expert.domain.log.service.LogBatchWriter.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class LogBatchWriterTest {
+
+    private final LogBatchRepository logBatchRepository = mock(LogBatchRepository.class);
+    private final LogRollupService logRollupService = mock(LogRollupService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 작성 스레드는 저장 후 배치 리스트를 재사용하므로, 호출 시점의 크기를 따로 기록
+    private final List<Integer> savedBatchSizes = new CopyOnWriteArrayList<>();
+
+    private LogBatchWriter logBatchWriter;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            List<LogEvent> batch = invocation.getArgument(0);
+            savedBatchSizes.add(batch.size());
+            return null;
+        }).when(logBatchRepository).saveAll(anyList());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (logBatchWriter != null) {
+            logBatchWriter.shutdown();
+        }
+    }
+
+    @Test
+    void 배치_크기만큼_모이면_플러시_간격을_기다리지_않고_저장한다() {
+        // given
+        logBatchWriter = writer(100, 3, Duration.ofSeconds(30), OverflowPolicy.DROP);
+        logBatchWriter.start();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            logBatchWriter.enqueue(event());
+        }
+
+        // then
+        verify(logRollupService, timeout(2000)).record(anyList());
+        assertThat(savedBatchSizes).containsExactly(3);
+    }
+
+    @Test
+    void 배치가_덜_차도_플러시_간격이_지나면_저장한다() {
+        // given
+        logBatchWriter = writer(100, 100, Duration.ofMillis(100), OverflowPolicy.DROP);
+        logBatchWriter.start();
+
+        // when
+        logBatchWriter.enqueue(event());
+
+        // then
+        verify(logRollupService, timeout(2000)).record(anyList());
+        assertThat(savedBatchSizes).containsExactly(1);
+    }
+
+    @Test
+    void DROP_정책은_큐가_가득_차면_로그를_버리고_드롭_수를_기록한다() {
+        // given - 작성 스레드를 시작하지 않아 큐가 비워지지 않음
+        logBatchWriter = writer(1, 10, Duration.ofSeconds(1), OverflowPolicy.DROP);
+        logBatchWriter.enqueue(event());
+
+        // when
+        logBatchWriter.enqueue(event());
+
+        // then
+        verify(logBatchRepository, never()).saveAll(anyList());
+        assertThat(meterRegistry.counter("log.writer.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void CALLER_RUNS_정책은_큐가_가득_차면_새_트랜잭션에서_바로_저장한다() {
+        // given
+        logBatchWriter = writer(1, 10, Duration.ofSeconds(1), OverflowPolicy.CALLER_RUNS);
+        logBatchWriter.enqueue(event());
+
+        // when
+        logBatchWriter.enqueue(event());
+
+        // then
+        assertThat(savedBatchSizes).containsExactly(1);
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        assertThat(meterRegistry.counter("log.writer.dropped").count()).isZero();
+        assertThat(meterRegistry.counter("log.writer.written").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 종료_시_큐에_남은_로그를_저장하고_종료_후_로그는_바로_저장한다() throws InterruptedException {
+        // given
+        logBatchWriter = writer(10, 10, Duration.ofSeconds(1), OverflowPolicy.DROP);
+        logBatchWriter.enqueue(event());
+        logBatchWriter.enqueue(event());
+
+        // when
+        logBatchWriter.shutdown();
+        logBatchWriter.enqueue(event());
+
+        // then
+        assertThat(savedBatchSizes).containsExactly(2, 1);
+        assertThat(meterRegistry.counter("log.writer.written").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("log.writer.dropped").count()).isZero();
+    }
+
+    @Test
+    void 저장에_실패하면_실패_수를_기록한다() {
+        // given
+        logBatchWriter = writer(1, 10, Duration.ofSeconds(1), OverflowPolicy.CALLER_RUNS);
+        logBatchWriter.enqueue(event());
+        doThrow(new IllegalStateException("db down"))
+                .when(logBatchRepository).saveAll(anyList());
+
+        // when
+        logBatchWriter.enqueue(event());
+
+        // then
+        assertThat(meterRegistry.counter("log.writer.failed").count()).isEqualTo(1);
+    }
+
+    private LogBatchWriter writer(int queueCapacity, int batchSize, Duration flushInterval, OverflowPolicy overflowPolicy) {
+        return new LogBatchWriter(logBatchRepository, logRollupService, transactionManager, meterRegistry,
+                queueCapacity, batchSize, flushInterval, overflowPolicy);
+    }
+
+    private LogEvent event() {
+        return new LogEvent(true, LocalDateTime.now());
+    }
+}
@@ -2,8 +2,12 @@ package org.example.expert.domain.todo.controller;
 
 import org.example.expert.config.JwtFilter;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -15,17 +19,27 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = TodoController.class,
@@ -42,6 +56,9 @@ class TodoControllerTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoExportService todoExportService;
+
 //    @BeforeEach
 //    void setup() {
 //        AuthUser authUser = new AuthUser(1L, "", "email", List.of(UserRole.ROLE_USER::name));
@@ -107,4 +124,106 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.code").value(HttpStatus.BAD_REQUEST.value()))
                 .andExpect(jsonPath("$.message").value("Todo not found"));
     }
+
+    @Test
+    @WithCustomMockUser
+    void todo_목록을_커서_기반으로_조회하면_다음_커서를_함께_반환한다() throws Exception {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 10, 1, 12, 0);
+        UserResponse userResponse = new UserResponse(1L, "email");
+        TodoResponse response = new TodoResponse(2L, "title", "contents", "Sunny", userResponse, modifiedAt, modifiedAt);
+        String nextCursor = new Cursor(modifiedAt, 2L).encode();
+
+        // when
+        when(todoService.getTodosByCursor(null, 1, null, null, null))
+                .thenReturn(new CursorResponse<>(List.of(response), 1, true, nextCursor));
+
+        // then
+        mockMvc.perform(get("/todos/cursor").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(2L))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor));
+    }
+
+    @Test
+    @WithCustomMockUser
+    void todo_slice_검색은_전체_건수_없이_다음_페이지_존재_여부만_반환한다() throws Exception {
+        // given
+        TodoSearchResponse response = new TodoSearchResponse(1L, "title", 2L, 3L, LocalDateTime.of(2024, 10, 1, 12, 0));
+
+        // when
+        when(todoService.searchTodosSlice(1, 10, null, null, null, null))
+                .thenReturn(new SliceImpl<>(List.of(response), PageRequest.of(0, 10), true));
+
+        // then
+        mockMvc.perform(get("/todos/search/slice"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.content[0].managerNum").value(2L))
+                .andExpect(jsonPath("$.content[0].commentNum").value(3L))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @WithCustomMockUser
+    void todo_검색은_기존과_같이_전체_건수를_포함한_페이지를_반환한다() throws Exception {
+        // given
+        TodoSearchResponse response = new TodoSearchResponse(1L, "title", 2L, 3L, LocalDateTime.of(2024, 10, 1, 12, 0));
+
+        // when
+        when(todoService.searchTodos(1, 10, null, null, null, null))
+                .thenReturn(new PageImpl<>(List.of(response), PageRequest.of(0, 10), 25));
+
+        // then
+        mockMvc.perform(get("/todos/search"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.page.totalElements").value(25))
+                .andExpect(jsonPath("$.page.totalPages").value(3));
+    }
+
+    @Test
+    @WithCustomMockUser
+    void todo_검색을_커서_기반으로_조회하면_다음_커서를_함께_반환한다() throws Exception {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 10, 1, 12, 0);
+        TodoSearchResponse response = new TodoSearchResponse(2L, "title", 1L, 0L, createdAt);
+        String nextCursor = new Cursor(createdAt, 2L).encode();
+
+        // when
+        when(todoService.searchTodosByCursor(null, 1, "title", null, null, null))
+                .thenReturn(new CursorResponse<>(List.of(response), 1, true, nextCursor));
+
+        // then
+        mockMvc.perform(get("/todos/search/cursor").param("size", "1").param("title", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(2L))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor));
+    }
+
+    @Test
+    @WithCustomMockUser
+    void todo_내보내기는_NDJSON_으로_스트리밍한다() throws Exception {
+        // given
+        StreamingResponseBody body = outputStream -> {
+            outputStream.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            outputStream.write("{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+        };
+
+        // when
+        when(todoExportService.exportTodos("Sunny", null, null)).thenReturn(body);
+
+        // then
+        MvcResult mvcResult = mockMvc.perform(get("/todos/export").param("weather", "Sunny"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
 }
@@ -0,0 +1,45 @@
+package org.example.expert.domain.todo.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoTitleNgramTest {
+
+    @Test
+    void 두_글자씩_겹치도록_자르고_소문자로_정규화한다() {
+        // when & then
+        assertThat(TodoTitleNgram.tokenize("AbCd")).containsExactly("ab", "bc", "cd");
+    }
+
+    @Test
+    void 한_글자_이하_제목은_gram_이_없다() {
+        // when & then
+        assertThat(TodoTitleNgram.tokenize("a")).isEmpty();
+        assertThat(TodoTitleNgram.tokenize("가")).isEmpty();
+        assertThat(TodoTitleNgram.tokenize("")).isEmpty();
+        assertThat(TodoTitleNgram.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void 한글_제목도_글자_단위로_자른다() {
+        // when & then
+        assertThat(TodoTitleNgram.tokenize("할 일 목록")).containsExactly("할 ", " 일", "일 ", " 목", "목록");
+    }
+
+    @Test
+    void 서로게이트_쌍은_한_글자로_취급해_잘리지_않는다() {
+        // given
+        String title = "a😀b";
+
+        // when & then
+        assertThat(TodoTitleNgram.tokenize(title)).containsExactly("a😀", "😀b");
+    }
+
+    @Test
+    void 중복된_gram_은_한_번만_포함한다() {
+        // when & then
+        assertThat(TodoTitleNgram.tokenize("aaaa")).containsExactly("aa");
+        assertThat(TodoTitleNgram.tokenize("abab")).containsExactly("ab", "ba");
+    }
+}
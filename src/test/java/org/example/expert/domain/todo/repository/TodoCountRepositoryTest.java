@@ -0,0 +1,142 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.log.service.LogService;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.example.expert.domain.todo.service.TodoCountService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:todo-count;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, TodoCountRepository.class, TodoCountService.class, ManagerService.class})
+class TodoCountRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoCountService todoCountService;
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private LogService logService;
+
+    @MockBean
+    private TodoCache todoCache;
+
+    @Test
+    void 담당자_수와_댓글_수를_DB_에서_원자적으로_증감한다() {
+        // given
+        Todo todo = saveTodo(saveUser("writer@test.com"));
+
+        // when
+        todoRepository.updateManagerCount(todo.getId(), 1);
+        todoRepository.updateManagerCount(todo.getId(), 1);
+        todoRepository.updateCommentCount(todo.getId(), 1);
+        todoRepository.updateCommentCount(todo.getId(), -1);
+        todoRepository.updateCommentCount(todo.getId(), 1);
+
+        // then - 작성자가 기본 담당자로 등록되어 있으므로 담당자 수는 1 에서 시작
+        Todo found = reload(todo);
+        assertThat(found.getManagerCount()).isEqualTo(3);
+        assertThat(found.getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 같은_트랜잭션에서_이미_읽은_일정도_증감_후에는_새_값을_조회한다() {
+        // given
+        Todo todo = saveTodo(saveUser("writer@test.com"));
+        Todo loaded = todoRepository.findById(todo.getId()).orElseThrow();
+        assertThat(loaded.getCommentCount()).isZero();
+
+        // when
+        todoRepository.updateCommentCount(todo.getId(), 1);
+
+        // then - 영속성 컨텍스트를 비우지 않으면 이전에 읽은 0 이 그대로 반환됨
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 담당자를_삭제하면_담당자_수가_줄어든다() {
+        // given
+        User writer = saveUser("writer@test.com");
+        Todo todo = saveTodo(writer);
+        Manager manager = entityManager.persist(new Manager(saveUser("manager@test.com"), todo));
+        todoRepository.updateManagerCount(todo.getId(), 1);
+        AuthUser authUser = new AuthUser(writer.getId(), "", writer.getEmail(), List.of(UserRole.ROLE_USER::name));
+
+        // when
+        managerService.deleteManager(authUser, todo.getId(), manager.getId());
+
+        // then
+        assertThat(reload(todo).getManagerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 어긋난_담당자_수와_댓글_수를_실제_건수로_맞춘다() {
+        // given
+        User writer = saveUser("writer@test.com");
+        Todo first = saveTodo(writer);
+        Todo second = saveTodo(writer);
+        entityManager.persist(new Manager(saveUser("manager@test.com"), first));
+        entityManager.persist(new Comment("comment", writer, first));
+        entityManager.persist(new Comment("comment", writer, first));
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE todos SET manager_count = 0, comment_count = 5");
+
+        // when
+        long updatedCount = todoCountService.reconcileCounts();
+
+        // then
+        assertThat(updatedCount).isEqualTo(2);
+        Todo reconciledFirst = reload(first);
+        assertThat(reconciledFirst.getManagerCount()).isEqualTo(2);
+        assertThat(reconciledFirst.getCommentCount()).isEqualTo(2);
+        Todo reconciledSecond = reload(second);
+        assertThat(reconciledSecond.getManagerCount()).isEqualTo(1);
+        assertThat(reconciledSecond.getCommentCount()).isZero();
+    }
+
+    private User saveUser(String email) {
+        return entityManager.persist(new User(email, "password", UserRole.ROLE_USER, "nickname"));
+    }
+
+    private Todo saveTodo(User user) {
+        Todo todo = entityManager.persist(new Todo("title", "contents", "Sunny", null, user));
+        entityManager.flush();
+        return todo;
+    }
+
+    // 증감은 벌크 UPDATE 로 실행되어 영속성 컨텍스트를 거치지 않으므로 비우고 다시 읽음
+    private Todo reload(Todo todo) {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(Todo.class, todo.getId());
+    }
+}
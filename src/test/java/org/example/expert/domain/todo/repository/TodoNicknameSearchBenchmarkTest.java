@@ -0,0 +1,120 @@
+package org.example.expert.domain.todo.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Wildcard;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.benchmark.LatencyRecorder;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.init.SeedProgress;
+import org.example.expert.init.UserSeeder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.example.expert.domain.todo.entity.QTodo.todo;
+import static org.example.expert.domain.user.entity.QUser.user;
+
+// InitData 와 같은 UserSeeder 로 BENCHMARK_USERS(기본 100만) 명의 유저와 유저마다 일정 하나를 적재한 DB 에서 비교합니다.
+// 적재된 건수가 부족하면 먼저 채우며(H2 에서도 돌 수 있도록 writer 는 하나), BENCHMARK=true 로 실행합니다.
+@Slf4j
+@SpringBootTest(properties = "init.seed.writers=1")
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class TodoNicknameSearchBenchmarkTest {
+
+    private static final int WARM_UP = 20;
+    private static final int RUNS = 200;
+    private static final int SEED_USERS = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_USERS", "1000000"));
+    // 실행 계획 확인용으로, 검색 쿼리에서 닉네임 조건과 정렬/건수만 남긴 SQL
+    private static final String PLAN_SQL = "SELECT t.id FROM todos t JOIN users u ON u.id = t.user_id "
+            + "WHERE u.nickname LIKE ? ORDER BY t.created_at DESC, t.id DESC LIMIT 10";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserSeeder userSeeder;
+
+    @Autowired
+    private TodoQueryRepository todoQueryRepository;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Test
+    void 닉네임_앞부분_일치와_부분_일치의_실행_계획과_지연_시간을_비교한다() throws InterruptedException {
+        seed();
+
+        String sampleNickname = jdbcTemplate.queryForObject("SELECT nickname FROM users ORDER BY id LIMIT 1", String.class);
+        String keyword = sampleNickname.substring(0, Math.min(6, sampleNickname.length()));
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // /todos/search 가 실제로 호출하는 메서드 (닉네임 앞부분 일치)
+        compare("prefix   (LIKE 'x%')", keyword + "%",
+                () -> todoQueryRepository.findByTitleAndNicknameAndCreatedAtDESC(pageable, null, keyword, null, null));
+        // 같은 조회에서 닉네임 조건만 부분 일치로 바꾼 쿼리
+        compare("contains (LIKE '%x%')", "%" + keyword + "%",
+                () -> findByNicknameContaining(pageable, keyword));
+    }
+
+    private void compare(String name, String pattern, Runnable search) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + PLAN_SQL, pattern);
+        log.info("{} plan : {}", name, plan);
+
+        for (int i = 0; i < WARM_UP; i++) {
+            search.run();
+        }
+
+        LatencyRecorder recorder = new LatencyRecorder(RUNS);
+        for (int i = 0; i < RUNS; i++) {
+            recorder.record(search);
+        }
+        log.info(recorder.summary(name));
+    }
+
+    private void findByNicknameContaining(Pageable pageable, String nickname) {
+        List<TodoSearchResponse> todos = queryFactory
+                .select(Projections.constructor(TodoSearchResponse.class,
+                        todo.id,
+                        todo.title,
+                        todo.managerCount,
+                        todo.commentCount,
+                        todo.createdAt
+                ))
+                .from(todo)
+                .innerJoin(todo.user, user)
+                .where(user.nickname.contains(nickname))
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .limit(pageable.getPageSize())
+                .offset(pageable.getOffset())
+                .fetch();
+
+        Long totalCount = queryFactory
+                .select(Wildcard.count)
+                .from(todo)
+                .innerJoin(todo.user, user)
+                .where(user.nickname.contains(nickname))
+                .fetchOne();
+
+        new PageImpl<>(todos, pageable, totalCount == null ? 0 : totalCount);
+    }
+
+    private void seed() throws InterruptedException {
+        Long users = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (users == null || users < SEED_USERS) {
+            userSeeder.seed(SEED_USERS, new SeedProgress(SEED_USERS));
+        }
+
+        jdbcTemplate.update("INSERT INTO todos (title, contents, weather, user_id, manager_count, comment_count, created_at, modified_at) "
+                + "SELECT CONCAT('title ', u.id), 'contents', 'Sunny', u.id, 0, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM users u "
+                + "WHERE NOT EXISTS (SELECT 1 FROM todos t WHERE t.user_id = u.id)");
+    }
+}
@@ -0,0 +1,245 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-query;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, QueryDslConfig.class, TodoQueryRepository.class, TodoTitleNgramRepository.class})
+class TodoQueryRepositoryTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 9, 1, 12, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TodoQueryRepository todoQueryRepository;
+
+    @Autowired
+    private TodoTitleNgramRepository todoTitleNgramRepository;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = entityManager.persist(new User("writer@test.com", "password", UserRole.ROLE_USER, "writer"));
+    }
+
+    @Test
+    void 한_건을_더_조회해_다음_페이지_존재_여부를_판단한다() {
+        // given
+        Todo third = saveTodo("third", BASE_TIME.plusMinutes(3));
+        Todo second = saveTodo("second", BASE_TIME.plusMinutes(2));
+        Todo first = saveTodo("first", BASE_TIME.plusMinutes(1));
+
+        // when
+        Slice<TodoSearchResponse> firstPage = todoQueryRepository.findSliceByTitleAndNicknameAndCreatedAtDESC(PageRequest.of(0, 2), null, null, null, null);
+        Slice<TodoSearchResponse> lastPage = todoQueryRepository.findSliceByTitleAndNicknameAndCreatedAtDESC(PageRequest.of(1, 2), null, null, null, null);
+
+        // then
+        assertThat(firstPage.getContent()).extracting(TodoSearchResponse::getId).containsExactly(third.getId(), second.getId());
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(lastPage.getContent()).extracting(TodoSearchResponse::getId).containsExactly(first.getId());
+        assertThat(lastPage.hasNext()).isFalse();
+    }
+
+    @Test
+    void 남은_건수가_페이지_크기와_같으면_다음_페이지가_없다() {
+        // given
+        saveTodo("first", BASE_TIME.plusMinutes(1));
+        saveTodo("second", BASE_TIME.plusMinutes(2));
+
+        // when
+        Slice<TodoSearchResponse> slice = todoQueryRepository.findSliceByTitleAndNicknameAndCreatedAtDESC(PageRequest.of(0, 2), null, null, null, null);
+
+        // then
+        assertThat(slice.getContent()).hasSize(2);
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    void 전체_건수는_요청한_경우에만_count_쿼리로_조회한다() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            saveTodo("todo" + i, BASE_TIME.plusMinutes(i));
+        }
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        statistics.clear();
+        todoQueryRepository.findSliceByTitleAndNicknameAndCreatedAtDESC(PageRequest.of(0, 2), null, null, null, null);
+        long sliceQueryCount = statistics.getQueryExecutionCount();
+
+        statistics.clear();
+        Page<TodoSearchResponse> page = todoQueryRepository.findByTitleAndNicknameAndCreatedAtDESC(PageRequest.of(0, 2), null, null, null, null);
+        long pageQueryCount = statistics.getQueryExecutionCount();
+
+        // then
+        assertThat(sliceQueryCount).isEqualTo(1);
+        assertThat(pageQueryCount).isEqualTo(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).hasSize(2);
+    }
+
+    @Test
+    void 커서_이후의_일정만_생성일_id_역순으로_조회한다() {
+        // given - 생성일이 같은 일정은 id 로 순서를 정함
+        Todo oldest = saveTodo("oldest", BASE_TIME);
+        Todo sameTimeLow = saveTodo("same-low", BASE_TIME.plusMinutes(1));
+        Todo sameTimeHigh = saveTodo("same-high", BASE_TIME.plusMinutes(1));
+        Todo newest = saveTodo("newest", BASE_TIME.plusMinutes(2));
+
+        // when
+        List<TodoSearchResponse> firstPage = todoQueryRepository.findByTitleAndNicknameAndCreatedAtDESCAfterCursor(null, 2, null, null, null, null);
+        TodoSearchResponse last = firstPage.get(firstPage.size() - 1);
+        List<TodoSearchResponse> nextPage = todoQueryRepository.findByTitleAndNicknameAndCreatedAtDESCAfterCursor(
+                new Cursor(last.getCreatedAt(), last.getId()), 2, null, null, null, null);
+
+        // then
+        assertThat(firstPage).extracting(TodoSearchResponse::getId).containsExactly(newest.getId(), sameTimeHigh.getId());
+        assertThat(nextPage).extracting(TodoSearchResponse::getId).containsExactly(sameTimeLow.getId(), oldest.getId());
+    }
+
+    @Test
+    void 비정규화된_담당자_수와_댓글_수를_함께_조회한다() {
+        // given
+        Todo todo = saveTodo("todo", BASE_TIME);
+        jdbcTemplate.update("UPDATE todos SET comment_count = 4 WHERE id = ?", todo.getId());
+
+        // when
+        Slice<TodoSearchResponse> slice = todoQueryRepository.findSliceByTitleAndNicknameAndCreatedAtDESC(PageRequest.of(0, 10), null, null, null, null);
+
+        // then
+        assertThat(slice.getContent()).singleElement().satisfies(response -> {
+            assertThat(response.getManagerNum()).isEqualTo(1);
+            assertThat(response.getCommentNum()).isEqualTo(4);
+        });
+    }
+
+    @Test
+    void 제목의_모든_gram_을_가진_일정만_후보로_좁혀_검색한다() {
+        // given
+        Todo springBoot = saveIndexedTodo("스프링 부트 입문", BASE_TIME.plusMinutes(3));
+        Todo springBatch = saveIndexedTodo("스프링 배치", BASE_TIME.plusMinutes(2));
+        saveIndexedTodo("자바 입문", BASE_TIME.plusMinutes(1));
+
+        // when & then
+        assertThat(searchTitle("스프링")).containsExactly(springBoot.getId(), springBatch.getId());
+        assertThat(searchTitle("부트 입")).containsExactly(springBoot.getId());
+        assertThat(searchTitle("파이썬")).isEmpty();
+    }
+
+    @Test
+    void gram_은_모두_있지만_연속되지_않은_제목은_LIKE_로_제외한다() {
+        // given - "abc" 의 gram(ab, bc)을 모두 가지지만 "abc" 를 포함하지 않는 제목
+        Todo scattered = saveIndexedTodo("ab x bc", BASE_TIME.plusMinutes(1));
+        Todo contiguous = saveIndexedTodo("xabcx", BASE_TIME);
+
+        // when
+        List<Long> result = searchTitle("abc");
+
+        // then
+        assertThat(result).containsExactly(contiguous.getId()).doesNotContain(scattered.getId());
+    }
+
+    @Test
+    void 한_글자_검색어는_gram_이_없어_LIKE_로만_검색한다() {
+        // given
+        Todo first = saveIndexedTodo("가나다", BASE_TIME.plusMinutes(1));
+        Todo second = saveIndexedTodo("다라마", BASE_TIME);
+        saveIndexedTodo("바사아", BASE_TIME.minusMinutes(1));
+
+        // when & then
+        assertThat(searchTitle("다")).containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    void 색인되지_않은_일정은_gram_검색에서_제외된다() {
+        // given - 색인 재구성 전의 일정
+        saveTodo("스프링 부트", BASE_TIME);
+
+        // when & then
+        assertThat(searchTitle("스프링")).isEmpty();
+    }
+
+    @Test
+    void 두_글자_이상_제목에_색인이_없는_일정이_있는지_확인한다() {
+        // given
+        saveIndexedTodo("스프링 부트", BASE_TIME);
+        saveTodo("가", BASE_TIME);
+        assertThat(todoTitleNgramRepository.existsTodoWithoutNgrams()).isFalse();
+
+        // when
+        saveTodo("스프링 배치", BASE_TIME);
+
+        // then
+        assertThat(todoTitleNgramRepository.existsTodoWithoutNgrams()).isTrue();
+    }
+
+    @Test
+    void 색인을_다시_만들면_이전_일정도_검색되고_읽지_않은_일정의_색인은_그대로_둔다() {
+        // given
+        Todo legacy = saveTodo("스프링 부트", BASE_TIME.plusMinutes(1));
+        Todo indexed = saveIndexedTodo("스프링 배치", BASE_TIME);
+
+        // when - 색인된 일정이 재구성 대상 범위 안에 있지만 읽히지 않은 경우
+        todoTitleNgramRepository.replaceAll(List.of(new TodoTitleNgramRepository.TodoTitle(legacy.getId(), legacy.getTitle())));
+
+        // then
+        assertThat(searchTitle("스프링")).containsExactly(legacy.getId(), indexed.getId());
+        assertThat(todoTitleNgramRepository.existsTodoWithoutNgrams()).isFalse();
+    }
+
+    private List<Long> searchTitle(String title) {
+        return todoQueryRepository.findSliceByTitleAndNicknameAndCreatedAtDESC(PageRequest.of(0, 10), title, null, null, null)
+                .getContent().stream()
+                .map(TodoSearchResponse::getId)
+                .toList();
+    }
+
+    private Todo saveIndexedTodo(String title, LocalDateTime createdAt) {
+        Todo todo = saveTodo(title, createdAt);
+        todoTitleNgramRepository.saveAll(todo.getId(), title);
+        return todo;
+    }
+
+    // Auditing 이 채운 생성일을 테스트에서 정한 시각으로 바꿈
+    private Todo saveTodo(String title, LocalDateTime createdAt) {
+        Todo todo = entityManager.persistAndFlush(new Todo(title, "contents", "Sunny", null, writer));
+        jdbcTemplate.update("UPDATE todos SET created_at = ? WHERE id = ?", createdAt, todo.getId());
+        entityManager.clear();
+        writer = entityManager.find(User.class, writer.getId());
+        return todo;
+    }
+}
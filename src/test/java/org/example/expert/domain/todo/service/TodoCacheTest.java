@@ -0,0 +1,128 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoCacheTest {
+
+    private final TodoCache todoCache = new TodoCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    void 처음_조회할_때만_loader_를_호출하고_이후에는_캐시된_값을_반환한다() {
+        // given
+        TodoResponse todo = todo(1L);
+
+        // when
+        TodoResponse first = todoCache.get(1L, todoId -> {
+            loadCount.incrementAndGet();
+            return todo;
+        });
+        TodoResponse second = todoCache.get(1L, todoId -> {
+            loadCount.incrementAndGet();
+            return todo(todoId);
+        });
+
+        // then
+        assertThat(first).isSameAs(todo);
+        assertThat(second).isSameAs(todo);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void 존재하지_않는_일정은_캐시하지_않아_다음_조회에서_다시_loader_를_호출한다() {
+        // when
+        TodoResponse first = todoCache.get(1L, todoId -> {
+            loadCount.incrementAndGet();
+            return null;
+        });
+        TodoResponse second = todoCache.get(1L, todoId -> {
+            loadCount.incrementAndGet();
+            return todo(todoId);
+        });
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second.getId()).isEqualTo(1L);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void 일정마다_따로_캐시한다() {
+        // when
+        todoCache.get(1L, this::load);
+        todoCache.get(2L, this::load);
+        todoCache.get(1L, this::load);
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_바로_제거하고_트랜잭션_안에서는_커밋_이후에_제거한다() {
+        // given
+        todoCache.get(1L, this::load);
+        todoCache.get(2L, this::load);
+
+        // when
+        todoCache.evictAfterCommit(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            todoCache.evictAfterCommit(2L);
+            todoCache.get(2L, this::load);
+            assertThat(loadCount).hasValue(2);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        todoCache.get(1L, this::load);
+        todoCache.get(2L, this::load);
+
+        // then
+        assertThat(loadCount).hasValue(4);
+    }
+
+    @Test
+    void 작성자_정보가_바뀌면_해당_유저의_일정만_제거한다() {
+        // given
+        todoCache.get(1L, todoId -> load(todoId, 1L));
+        todoCache.get(2L, todoId -> load(todoId, 2L));
+
+        // when
+        todoCache.evictByUserIdAfterCommit(1L);
+        todoCache.get(1L, todoId -> load(todoId, 1L));
+        todoCache.get(2L, todoId -> load(todoId, 2L));
+
+        // then
+        assertThat(loadCount).hasValue(3);
+    }
+
+    private TodoResponse load(Long todoId, Long userId) {
+        loadCount.incrementAndGet();
+        LocalDateTime now = LocalDateTime.now();
+        return new TodoResponse(todoId, "title", "contents", "Sunny", new UserResponse(userId, "email"), now, now);
+    }
+
+    private TodoResponse load(Long todoId) {
+        loadCount.incrementAndGet();
+        return todo(todoId);
+    }
+
+    private TodoResponse todo(Long todoId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TodoResponse(todoId, "title", "contents", "Sunny", new UserResponse(1L, "email"), now, now);
+    }
+}
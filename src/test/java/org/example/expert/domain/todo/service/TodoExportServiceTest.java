@@ -0,0 +1,131 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoQueryRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.weather.service.WeatherService;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoExportServiceTest {
+
+    private final TodoQueryRepository todoQueryRepository = mock(TodoQueryRepository.class);
+    private final WeatherService weatherService = mock(WeatherService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final TodoExportService todoExportService =
+            new TodoExportService(todoQueryRepository, weatherService, objectMapper, transactionManager, 500, 2);
+
+    @Test
+    void 일정을_한_줄에_하나씩_NDJSON_으로_쓴다() throws IOException {
+        // given
+        when(todoQueryRepository.streamAllByWeatherAndModifiedAt(isNull(), isNull(), isNull(), eq(500)))
+                .thenReturn(todos(1, 2, 3));
+
+        // when
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        todoExportService.exportTodos(null, null, null).writeTo(outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode todo = objectMapper.readTree(lines[i]);
+            assertThat(todo.get("id").asLong()).isEqualTo(i + 1);
+            assertThat(todo.get("user").get("email").asText()).isEqualTo("email");
+        }
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).endsWith("\n");
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션_안에서_스트림을_끝까지_읽고_닫는다() throws IOException {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(todoQueryRepository.streamAllByWeatherAndModifiedAt(any(), any(), any(), anyInt()))
+                .thenReturn(todos(1, 2).onClose(() -> closed.set(true)));
+
+        // when
+        todoExportService.exportTodos(null, null, null).writeTo(new ByteArrayOutputStream());
+
+        // then
+        InOrder inOrder = inOrder(transactionManager, todoQueryRepository);
+        inOrder.verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()));
+        inOrder.verify(todoQueryRepository).streamAllByWeatherAndModifiedAt(any(), any(), any(), anyInt());
+        inOrder.verify(transactionManager).commit(any());
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void 조건_해석은_스트리밍_전에_끝내고_조회는_응답을_쓸_때_시작한다() throws IOException {
+        // given
+        when(weatherService.findIdsContaining("sun")).thenReturn(List.of(1L, 2L));
+        when(todoQueryRepository.streamAllByWeatherAndModifiedAt(any(), any(), any(), anyInt()))
+                .thenReturn(todos(1));
+
+        // when
+        StreamingResponseBody body = todoExportService.exportTodos("sun", "2024-09-01", "2024-09-30");
+
+        // then
+        verify(weatherService).findIdsContaining("sun");
+        verify(todoQueryRepository, never()).streamAllByWeatherAndModifiedAt(any(), any(), any(), anyInt());
+
+        body.writeTo(new ByteArrayOutputStream());
+        verify(todoQueryRepository).streamAllByWeatherAndModifiedAt(
+                List.of(1L, 2L),
+                LocalDateTime.of(2024, 9, 1, 0, 0, 0),
+                LocalDateTime.of(2024, 9, 30, 23, 59, 59),
+                500);
+    }
+
+    @Test
+    void flush_간격마다_그리고_마지막에_출력_버퍼를_비운다() throws IOException {
+        // given
+        when(todoQueryRepository.streamAllByWeatherAndModifiedAt(any(), any(), any(), anyInt()))
+                .thenReturn(todos(1, 2, 3, 4, 5));
+        int[] flushCount = new int[1];
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushCount[0]++;
+            }
+        };
+
+        // when
+        todoExportService.exportTodos(null, null, null).writeTo(outputStream);
+
+        // then - 2건, 4건을 쓴 뒤와 마지막에 한 번
+        assertThat(flushCount[0]).isEqualTo(3);
+    }
+
+    private Stream<TodoResponse> todos(long... ids) {
+        LocalDateTime now = LocalDateTime.of(2024, 9, 1, 12, 0);
+        return LongStream.of(ids)
+                .mapToObj(id -> new TodoResponse(id, "title" + id, "contents", "Sunny", new UserResponse(1L, "email"), now, now));
+    }
+}
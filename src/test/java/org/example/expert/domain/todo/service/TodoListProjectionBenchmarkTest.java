@@ -0,0 +1,117 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.benchmark.LatencyRecorder;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoQueryRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+// BENCHMARK=true 로 실행하며, 일정이 SEED_TODOS 건보다 적으면 먼저 채웁니다.
+@Slf4j
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class TodoListProjectionBenchmarkTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int WARM_UP = 1000;
+    private static final int RUNS = 1000;
+    private static final int SEED_TODOS = 10000;
+    private static final int SEED_BATCH_SIZE = 500;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TodoQueryRepository todoQueryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 두 경로 모두 같은 읽기 전용 트랜잭션 설정에서 필터 없이 첫 페이지를 같은 정렬/건수로 조회하고, 양쪽 모두 count 쿼리를 포함
+    @Test
+    void 엔티티_조회와_DTO_프로젝션_조회의_할당량과_지연_시간을_비교한다() {
+        seedTodos();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+
+        // 기존 경로: 이전 TodoRepository 의 fetch join 쿼리로 엔티티를 영속성 컨텍스트에 올린 뒤 DTO 로 변환
+        Runnable entityPath = () -> transactionTemplate.executeWithoutResult(status -> {
+            List<Todo> todos = entityManager.createQuery(
+                            "SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC", Todo.class)
+                    .setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize())
+                    .getResultList();
+            Long total = entityManager.createQuery("SELECT COUNT(t) FROM Todo t", Long.class).getSingleResult();
+            new PageImpl<>(todos, pageable, total).map(todo -> new TodoResponse(
+                    todo.getId(),
+                    todo.getTitle(),
+                    todo.getContents(),
+                    todo.getWeather(),
+                    new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                    todo.getCreatedAt(),
+                    todo.getModifiedAt()
+            ));
+        });
+
+        // 변경 경로: 목록 API 가 실제로 호출하는 TodoQueryRepository 메서드
+        Runnable projectionPath = () -> transactionTemplate.executeWithoutResult(status ->
+                todoQueryRepository.findAllByWeatherAndModifiedAtDesc(pageable, null, null, null));
+
+        measure("entity     ", entityPath);
+        measure("projection ", projectionPath);
+    }
+
+    private void seedTodos() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long existing = transactionTemplate.execute(status ->
+                entityManager.createQuery("SELECT COUNT(t) FROM Todo t", Long.class).getSingleResult());
+
+        for (long seeded = existing; seeded < SEED_TODOS; seeded += SEED_BATCH_SIZE) {
+            long batchStart = seeded;
+            transactionTemplate.executeWithoutResult(status -> {
+                User writer = new User("bench-" + batchStart + "@test.com", "password", UserRole.ROLE_USER, "bench" + batchStart);
+                entityManager.persist(writer);
+                for (int i = 0; i < SEED_BATCH_SIZE; i++) {
+                    entityManager.persist(new Todo("title " + (batchStart + i), "contents", "Sunny", null, writer));
+                }
+            });
+            entityManager.clear();
+        }
+    }
+
+    private void measure(String name, Runnable task) {
+        for (int i = 0; i < WARM_UP; i++) {
+            task.run();
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        LatencyRecorder recorder = new LatencyRecorder(RUNS);
+
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < RUNS; i++) {
+            recorder.record(task);
+        }
+        long allocatedPerRequest = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / RUNS;
+
+        log.info("{}, allocated/request : {} bytes", recorder.summary(name), allocatedPerRequest);
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.expert.domain.todo.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherStubServer;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 느린 날씨 API 를 기다리는 동안 커넥션 풀이 점유되지 않는지 확인하는 부하 테스트 (BENCHMARK=true 로 실행)
+// 날씨 조회를 트랜잭션 안에서 하던 이전 구조를 바깥 트랜잭션으로 재현해 같은 부하에서 함께 측정
+@Slf4j
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class TodoSaveLoadTest {
+
+    private static final int CONCURRENT_REQUESTS = 50;
+    private static final long WEATHER_DELAY_MILLIS = 1000;
+
+    private static final WeatherStubServer weatherStubServer = startStubServer();
+
+    private record LoadResult(int succeeded, long elapsedMillis, int maxActiveWhileWaiting, int maxAwaitingConnection,
+                              double meanConnectionUsageMillis) {
+    }
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WeatherClient weatherClient;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void weatherProperties(DynamicPropertyRegistry registry) {
+        registry.add("weather.api.url", weatherStubServer::url);
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        weatherStubServer.close();
+    }
+
+    @Test
+    void 느린_날씨_API_를_기다리는_동안_커넥션을_점유하지_않는다() throws InterruptedException, SQLException {
+        User savedUser = userRepository.save(new User("load-test@test.com", "password", UserRole.ROLE_USER, "loadTester"));
+        AuthUser authUser = new AuthUser(savedUser.getId(), "", savedUser.getEmail(), List.of(UserRole.ROLE_USER::name));
+        HikariDataSource hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+
+        weatherStubServer.setStatusCode(200);
+        weatherStubServer.setDelayMillis(WEATHER_DELAY_MILLIS);
+
+        LoadResult current = run("weather before tx", hikariDataSource,
+                () -> todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents")));
+
+        TransactionTemplate outerTransaction = new TransactionTemplate(transactionManager);
+        LoadResult weatherInTransaction = run("weather inside tx", hikariDataSource,
+                () -> outerTransaction.executeWithoutResult(status -> todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"))));
+
+        assertThat(current.succeeded()).isEqualTo(CONCURRENT_REQUESTS);
+        assertThat(weatherInTransaction.succeeded()).isEqualTo(CONCURRENT_REQUESTS);
+        assertThat(current.maxActiveWhileWaiting()).isZero();
+    }
+
+    private LoadResult run(String name, HikariDataSource hikariDataSource, Runnable saveTodo) throws InterruptedException {
+        // 캐시가 비어 있어 부하 중 첫 요청들이 느린 API 호출을 기다리게 됨
+        ReflectionTestUtils.setField(weatherClient, "cachedWeather", null);
+        int requestsBefore = weatherStubServer.getRequestCount();
+        Timer usage = meterRegistry.get("hikaricp.connections.usage").timer();
+        long usageCountBefore = usage.count();
+        double usageMillisBefore = usage.totalTime(TimeUnit.MILLISECONDS);
+
+        // 날씨 API 응답을 기다리는 동안 사용 중인 커넥션 수와 커넥션을 기다리는 스레드 수를 기록
+        AtomicInteger maxActiveWhileWaiting = new AtomicInteger();
+        AtomicInteger maxAwaitingConnection = new AtomicInteger();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            if (weatherStubServer.getInFlightCount() > 0) {
+                maxActiveWhileWaiting.accumulateAndGet(hikariDataSource.getHikariPoolMXBean().getActiveConnections(), Math::max);
+            }
+            maxAwaitingConnection.accumulateAndGet(hikariDataSource.getHikariPoolMXBean().getThreadsAwaitingConnection(), Math::max);
+        }, 0, 5, TimeUnit.MILLISECONDS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch latch = new CountDownLatch(CONCURRENT_REQUESTS);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            executor.submit(() -> {
+                try {
+                    saveTodo.run();
+                    succeeded.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(1, TimeUnit.MINUTES);
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+
+        sampler.shutdownNow();
+        executor.shutdownNow();
+
+        long usageCount = usage.count() - usageCountBefore;
+        double meanUsageMillis = usageCount == 0 ? 0 : (usage.totalTime(TimeUnit.MILLISECONDS) - usageMillisBefore) / usageCount;
+        LoadResult result = new LoadResult(succeeded.get(), elapsedMillis, maxActiveWhileWaiting.get(), maxAwaitingConnection.get(), meanUsageMillis);
+
+        log.info("saveTodo load [{}] - requests : {}, succeeded : {}, elapsed : {}ms, max active while waiting for weather : {}/{}, "
+                        + "max threads awaiting connection : {}, mean connection usage : {}ms, weather api calls : {}",
+                name, CONCURRENT_REQUESTS, result.succeeded(), result.elapsedMillis(), result.maxActiveWhileWaiting(),
+                hikariDataSource.getMaximumPoolSize(), result.maxAwaitingConnection(), Math.round(result.meanConnectionUsageMillis()),
+                weatherStubServer.getRequestCount() - requestsBefore);
+        return result;
+    }
+
+    private static WeatherStubServer startStubServer() {
+        try {
+            WeatherStubServer server = new WeatherStubServer();
+            // 애플리케이션 시작 시 캐시 적재가 실패하도록 설정
+            server.setStatusCode(500);
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
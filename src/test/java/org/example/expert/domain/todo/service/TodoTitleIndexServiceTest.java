@@ -0,0 +1,48 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.repository.TodoTitleNgramRepository;
+import org.example.expert.domain.todo.repository.TodoTitleNgramRepository.TodoTitle;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoTitleIndexServiceTest {
+
+    private final TodoTitleNgramRepository todoTitleNgramRepository = mock(TodoTitleNgramRepository.class);
+    private final TodoTitleIndexService todoTitleIndexService = new TodoTitleIndexService(todoTitleNgramRepository, false);
+
+    @Test
+    void 색인이_빠진_일정이_없으면_기동_시_색인을_다시_만들지_않는다() {
+        // given
+        when(todoTitleNgramRepository.existsTodoWithoutNgrams()).thenReturn(false);
+
+        // when
+        todoTitleIndexService.backfillIfMissing();
+
+        // then
+        verify(todoTitleNgramRepository, never()).findTitlesAfterId(anyLong(), anyInt());
+        verify(todoTitleNgramRepository, never()).replaceAll(any());
+    }
+
+    @Test
+    void 색인이_빠진_일정이_있으면_기동_시_전체_색인을_배치로_다시_만든다() {
+        // given
+        List<TodoTitle> todoTitles = List.of(new TodoTitle(1L, "스프링 부트"), new TodoTitle(2L, "스프링 배치"));
+        when(todoTitleNgramRepository.existsTodoWithoutNgrams()).thenReturn(true);
+        when(todoTitleNgramRepository.findTitlesAfterId(0L, 500)).thenReturn(todoTitles);
+
+        // when
+        todoTitleIndexService.backfillIfMissing();
+
+        // then
+        verify(todoTitleNgramRepository).replaceAll(todoTitles);
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.repository.UserEmailRepository;
+import org.example.expert.domain.user.repository.UserEmailRepository.UserEmail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailFilterTest {
+
+    private final UserEmailRepository userEmailRepository = mock(UserEmailRepository.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<UserEmail> users = new CopyOnWriteArrayList<>();
+
+    private EmailFilter emailFilter;
+
+    @BeforeEach
+    void setUp() {
+        emailFilter = new EmailFilter(userEmailRepository, meterRegistry, 10);
+        when(userEmailRepository.countUsers()).thenAnswer(invocation -> (long) users.size());
+        when(userEmailRepository.countUsersUpTo(anyLong())).thenAnswer(invocation -> {
+            long maxId = invocation.getArgument(0);
+            return users.stream().filter(user -> user.id() <= maxId).count();
+        });
+        when(userEmailRepository.findEmailsAfterId(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return users.stream()
+                    .filter(user -> user.id() > lastId)
+                    .sorted(Comparator.comparingLong(UserEmail::id))
+                    .limit(limit)
+                    .toList();
+        });
+    }
+
+    @Test
+    void 적재되기_전에는_판단할_수_없어_항상_DB_를_조회하게_한다() {
+        // when & then
+        assertThat(emailFilter.mightExist("unknown@test.com")).isTrue();
+    }
+
+    @Test
+    void 가입되지_않은_이메일은_확실히_없다고_판단하고_횟수를_기록한다() {
+        // given
+        users.add(new UserEmail(1L, "user@test.com"));
+        emailFilter.rebuild();
+
+        // when & then
+        assertThat(emailFilter.mightExist("unknown@test.com")).isFalse();
+        assertThat(emailFilter.mightExist("USER@test.com")).isTrue();
+        assertThat(meterRegistry.counter("user.email_filter.definite_miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 오탐은_적재가_끝난_뒤에만_기록한다() {
+        // given
+        emailFilter.recordFalsePositive();
+        emailFilter.rebuild();
+
+        // when
+        emailFilter.recordFalsePositive();
+
+        // then
+        assertThat(meterRegistry.counter("user.email_filter.false_positive").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 다시_만드는_중에_추가된_이메일도_새_filter_에_남는다() {
+        // given - 적재 쿼리가 실행되는 사이에 다른 요청이 가입
+        users.add(new UserEmail(1L, "user@test.com"));
+        when(userEmailRepository.countUsers()).thenAnswer(invocation -> {
+            emailFilter.add("signup@test.com");
+            return (long) users.size();
+        });
+
+        // when
+        emailFilter.rebuild();
+
+        // then
+        assertThat(emailFilter.mightExist("signup@test.com")).isTrue();
+        assertThat(emailFilter.mightExist("user@test.com")).isTrue();
+    }
+
+    @Test
+    void 마지막으로_읽은_id_보다_작은_id_가_늦게_커밋되어도_다음_refresh_에서_반영한다() {
+        // given - id 2 가 아직 커밋되지 않은 상태에서 id 3 까지 적재
+        users.add(new UserEmail(1L, "first@test.com"));
+        users.add(new UserEmail(3L, "third@test.com"));
+        emailFilter.rebuild();
+        assertThat(emailFilter.mightExist("second@test.com")).isFalse();
+
+        // when
+        users.add(new UserEmail(2L, "second@test.com"));
+        emailFilter.refresh();
+
+        // then
+        assertThat(emailFilter.mightExist("second@test.com")).isTrue();
+    }
+
+    @Test
+    void refresh_는_마지막으로_읽은_id_에서_겹치는_구간만큼만_되돌아가_읽는다() {
+        // given
+        for (long id = 1; id <= 30; id++) {
+            users.add(new UserEmail(id, "user" + id + "@test.com"));
+        }
+        emailFilter.rebuild();
+
+        // when
+        emailFilter.refresh();
+        emailFilter.refresh();
+
+        // then - 읽은 id 가 줄어들지 않아 기준점이 계속 뒤로 밀리지 않고, 다시 읽은 구간 때문에 다시 만들지도 않음
+        verify(userEmailRepository, times(2)).findEmailsAfterId(eq(20L), anyInt());
+        verify(userEmailRepository, times(1)).countUsers();
+    }
+
+    @Test
+    void 겹치는_구간보다_늦게_커밋된_이메일이_있으면_다시_만들고_그동안은_DB_를_조회하게_한다() {
+        // given - id 5 가 아직 커밋되지 않은 상태에서 id 30 까지 적재
+        for (long id = 1; id <= 30; id++) {
+            if (id != 5) {
+                users.add(new UserEmail(id, "user" + id + "@test.com"));
+            }
+        }
+        emailFilter.rebuild();
+        assertThat(emailFilter.mightExist("late@test.com")).isFalse();
+
+        List<Boolean> mightExistWhileRebuilding = new CopyOnWriteArrayList<>();
+        when(userEmailRepository.countUsers()).thenAnswer(invocation -> {
+            mightExistWhileRebuilding.add(emailFilter.mightExist("late@test.com"));
+            return (long) users.size();
+        });
+
+        // when - 대량 가져오기처럼 오래 걸린 트랜잭션이 겹치는 구간(10) 밖의 id 로 커밋
+        users.add(new UserEmail(5L, "late@test.com"));
+        emailFilter.refresh();
+
+        // then
+        assertThat(mightExistWhileRebuilding).containsExactly(true);
+        assertThat(emailFilter.mightExist("late@test.com")).isTrue();
+        assertThat(emailFilter.mightExist("unknown@test.com")).isFalse();
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
+import org.example.expert.domain.user.repository.UserNicknameRepository;
+import org.example.expert.domain.user.repository.UserNicknameRepository.UserNickname;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NicknameIndexTest {
+
+    private final UserNicknameRepository userNicknameRepository = mock(UserNicknameRepository.class);
+    private final NicknameIndex nicknameIndex = new NicknameIndex(userNicknameRepository, 3);
+    private final List<UserNickname> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(userNicknameRepository.findNicknamesAfterId(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return users.stream()
+                    .filter(user -> user.id() > lastId)
+                    .limit(limit)
+                    .toList();
+        });
+    }
+
+    @Test
+    void 접두사로_시작하는_닉네임만_대소문자_무시_순서로_반환한다() {
+        // given
+        saveUsers("aa", "ab", "abc", "abd", "ac", "b");
+        nicknameIndex.rebuild();
+
+        // when & then
+        assertThat(nicknames(nicknameIndex.findByPrefix("ab", 10))).containsExactly("ab", "abc", "abd");
+        assertThat(nicknames(nicknameIndex.findByPrefix("b", 10))).containsExactly("b");
+        assertThat(nicknames(nicknameIndex.findByPrefix("a", 10))).containsExactly("aa", "ab", "abc", "abd", "ac");
+        assertThat(nicknameIndex.findByPrefix("abe", 10)).isEmpty();
+        assertThat(nicknameIndex.findByPrefix("c", 10)).isEmpty();
+    }
+
+    @Test
+    void 대소문자가_섞인_닉네임과_접두사도_대소문자_무시로_찾는다() {
+        // given
+        saveUsers("Alice", "alex", "ALBERT", "bob");
+        nicknameIndex.rebuild();
+
+        // when
+        List<UserNicknameResponse> result = nicknameIndex.findByPrefix("aL", 10);
+
+        // then
+        assertThat(nicknames(result)).containsExactly("ALBERT", "alex", "Alice");
+    }
+
+    @Test
+    void 재구축_이후_추가된_유저도_base_와_병합해_순서대로_반환한다() {
+        // given
+        saveUsers("apple", "apricot");
+        nicknameIndex.rebuild();
+
+        // when
+        nicknameIndex.add(10L, "Applause");
+        nicknameIndex.add(11L, "banana");
+
+        // then
+        assertThat(nicknames(nicknameIndex.findByPrefix("ap", 10))).containsExactly("Applause", "apple", "apricot");
+    }
+
+    @Test
+    void 재구축_전에는_추가된_유저만_검색된다() {
+        // given
+        nicknameIndex.add(1L, "delta");
+
+        // when & then
+        assertThat(nicknameIndex.findByPrefix("de", 10))
+                .extracting(UserNicknameResponse::getId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void base_와_delta_에_같은_유저가_있어도_한_번만_반환한다() {
+        // given
+        saveUsers("tom", "tomas");
+        nicknameIndex.rebuild();
+
+        // when - 재구축이 읽어 간 유저가 뒤늦게 delta 에도 추가된 상황
+        nicknameIndex.add(1L, "tom");
+
+        // then
+        assertThat(nicknameIndex.findByPrefix("tom", 10))
+                .extracting(UserNicknameResponse::getId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 재구축하면_base_에_포함된_delta_항목은_제거된다() {
+        // given
+        nicknameIndex.add(1L, "tom");
+        saveUsers("tom");
+
+        // when
+        nicknameIndex.rebuild();
+        nicknameIndex.rebuild();
+
+        // then
+        assertThat(nicknameIndex.findByPrefix("tom", 10))
+                .extracting(UserNicknameResponse::getId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void 같은_닉네임은_id_순서로_반환하고_limit_건까지만_반환한다() {
+        // given
+        saveUsers("same", "same", "same", "same");
+        nicknameIndex.rebuild();
+        nicknameIndex.add(5L, "same");
+
+        // when
+        List<UserNicknameResponse> result = nicknameIndex.findByPrefix("same", 3);
+
+        // then
+        assertThat(result).extracting(UserNicknameResponse::getId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void delta_가_최대_크기에_도달하면_재구축해_base_로_병합한다() {
+        // given
+        saveUsers("kim", "lee");
+        nicknameIndex.rebuild();
+        saveUsers("park", "choi");
+        nicknameIndex.add(3L, "park");
+        nicknameIndex.add(4L, "choi");
+
+        // when - 최대 크기(3) 미만이면 재구축하지 않음
+        nicknameIndex.rebuildIfDeltaTooLarge();
+
+        // then
+        verify(userNicknameRepository, times(1)).findNicknamesAfterId(0L, 10000);
+
+        // when - 최대 크기에 도달하면 재구축하고 base 에 포함된 delta 항목은 제거
+        saveUsers("jung");
+        nicknameIndex.add(5L, "jung");
+        nicknameIndex.rebuildIfDeltaTooLarge();
+
+        // then
+        verify(userNicknameRepository, times(2)).findNicknamesAfterId(0L, 10000);
+        assertThat(nicknameIndex.findByPrefix("park", 10))
+                .extracting(UserNicknameResponse::getId)
+                .containsExactly(3L);
+        nicknameIndex.rebuildIfDeltaTooLarge();
+        verify(userNicknameRepository, times(2)).findNicknamesAfterId(0L, 10000);
+    }
+
+    private void saveUsers(String... nicknames) {
+        for (String nickname : nicknames) {
+            users.add(new UserNickname(users.size() + 1, nickname));
+        }
+    }
+
+    private List<String> nicknames(List<UserNicknameResponse> responses) {
+        return responses.stream().map(UserNicknameResponse::getNickname).toList();
+    }
+}
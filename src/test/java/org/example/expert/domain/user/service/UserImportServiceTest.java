@@ -0,0 +1,159 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.validation.Validation;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.dto.response.UserImportResponse.RowError;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserNicknameRepository;
+import org.example.expert.domain.user.repository.UserNicknameRepository.UserNickname;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.init.InitDataRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserImportServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final InitDataRepository initDataRepository = mock(InitDataRepository.class);
+    private final UserNicknameRepository userNicknameRepository = mock(UserNicknameRepository.class);
+    private final NicknameIndex nicknameIndex = mock(NicknameIndex.class);
+    private final EmailFilter emailFilter = mock(EmailFilter.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+
+    private final UserImportService userImportService = new UserImportService(
+            userRepository,
+            initDataRepository,
+            userNicknameRepository,
+            nicknameIndex,
+            emailFilter,
+            passwordEncoder,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            100,
+            100,
+            2
+    );
+
+    @AfterEach
+    void tearDown() {
+        userImportService.shutdown();
+    }
+
+    @Test
+    void 잘못된_행과_중복_행과_이미_가입된_행을_제외하고_나머지를_저장한다() throws IOException {
+        // given
+        String csv = """
+                email,password,userRole,nickname
+                a@test.com,password,ROLE_USER,alice
+                bad-email,password,ROLE_USER,bob
+                "c@test.com","pass,word",ROLE_USER,"carol ""c""\"
+                A@test.com,password,ROLE_USER,alice2
+
+                exists@test.com,password,ROLE_USER,erin
+                d@test.com,password,ROLE_USER
+                "e@test.com,password,ROLE_USER,eve
+                f@test.com,password,ROLE_NOPE,frank
+                """;
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "encoded-" + invocation.getArgument(0));
+        when(userRepository.findEmailsIn(anyCollection())).thenReturn(List.of("exists@test.com"));
+        List<UserNickname> savedNicknames = List.of(new UserNickname(1L, "alice"), new UserNickname(2L, "carol \"c\""));
+        when(userNicknameRepository.findNicknamesByEmails(List.of("a@test.com", "c@test.com"))).thenReturn(savedNicknames);
+
+        // when
+        UserImportResponse response = userImportService.importUsers(csv(csv));
+
+        // then
+        assertThat(response.getTotalRows()).isEqualTo(8);
+        assertThat(response.getImportedRows()).isEqualTo(2);
+        assertThat(response.getFailedRows()).isEqualTo(6);
+        assertThat(response.isErrorsTruncated()).isFalse();
+        assertThat(response.getErrors()).extracting(RowError::getLine)
+                .containsExactlyInAnyOrder(3L, 5L, 7L, 8L, 9L, 10L);
+        assertThat(reasonOf(response, 5)).isEqualTo("파일 안에서 중복된 이메일입니다.");
+        assertThat(reasonOf(response, 7)).isEqualTo("이미 존재하는 이메일입니다.");
+        assertThat(reasonOf(response, 8)).isEqualTo("컬럼 수가 올바르지 않습니다.");
+        assertThat(reasonOf(response, 9)).isEqualTo("닫히지 않은 따옴표가 있습니다. 필드 안의 줄바꿈은 지원하지 않습니다.");
+        assertThat(reasonOf(response, 10)).isEqualTo("유효하지 않은 UerRole");
+
+        ArgumentCaptor<List<User>> saved = userListCaptor();
+        verify(initDataRepository).saveAll(saved.capture(), anyInt());
+        assertThat(saved.getValue()).extracting(User::getEmail).containsExactly("a@test.com", "c@test.com");
+        assertThat(saved.getValue()).extracting(User::getPassword).containsExactly("encoded-password", "encoded-pass,word");
+        assertThat(saved.getValue()).extracting(User::getNickname).containsExactly("alice", "carol \"c\"");
+        verify(emailFilter).add("a@test.com");
+        verify(emailFilter).add("c@test.com");
+        verify(nicknameIndex).addAll(savedNicknames);
+    }
+
+    @Test
+    void 배치_저장이_유니크_제약에_걸리면_한_건씩_저장하고_저장된_유저만_인덱스에_반영한다() throws IOException {
+        // given
+        String csv = """
+                email,password,userRole,nickname
+                a@test.com,password,ROLE_USER,alice
+                b@test.com,password,ROLE_USER,bob
+                """;
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+        when(userRepository.findEmailsIn(anyCollection())).thenReturn(List.of());
+        doThrow(new DuplicateKeyException("duplicate")).when(initDataRepository)
+                .saveAll(argThat(users -> users.size() == 2 || users.get(0).getEmail().equals("b@test.com")), anyInt());
+
+        // when
+        UserImportResponse response = userImportService.importUsers(csv(csv));
+
+        // then
+        assertThat(response.getImportedRows()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(RowError::getLine).containsExactly(3L);
+        verify(userNicknameRepository).findNicknamesByEmails(List.of("a@test.com"));
+        verify(emailFilter).add("a@test.com");
+        verify(emailFilter, never()).add("b@test.com");
+    }
+
+    @Test
+    void 헤더가_다르면_예외를_던진다() {
+        // when & then
+        assertThatThrownBy(() -> userImportService.importUsers(csv("email,password,nickname\n")))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(initDataRepository, never()).saveAll(anyList(), anyInt());
+    }
+
+    private String reasonOf(UserImportResponse response, long line) {
+        return response.getErrors().stream()
+                .filter(error -> error.getLine() == line)
+                .findFirst()
+                .map(RowError::getReason)
+                .orElseThrow();
+    }
+
+    private InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ArgumentCaptor.forClass 는 제네릭 타입을 받을 수 없으므로 unchecked 변환을 이 곳에만 둠
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<User>> userListCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
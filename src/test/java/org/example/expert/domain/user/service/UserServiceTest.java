@@ -0,0 +1,105 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.PasswordHasher;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.example.expert.domain.user.dto.response.UserBatchResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+    private static final int BATCH_MAX_IDS = 5;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserService userService = new UserService(
+            userRepository,
+            mock(PasswordHasher.class),
+            mock(NicknameIndex.class),
+            new UserCache(new SimpleMeterRegistry(), 1000, Duration.ofMinutes(1)),
+            mock(TodoCache.class),
+            20,
+            BATCH_MAX_IDS
+    );
+
+    @Test
+    void 요청한_순서대로_중복_없이_반환하고_없는_id_는_missingIds_로_알려준다() {
+        // given
+        when(userRepository.findResponsesByIdIn(anyCollection()))
+                .thenReturn(List.of(user(1L), user(3L)));
+
+        // when
+        UserBatchResponse response = userService.getUsers(Arrays.asList(3L, 2L, 1L, 3L, null));
+
+        // then
+        assertThat(response.getUsers()).extracting(UserResponse::getId).containsExactly(3L, 1L);
+        assertThat(response.getMissingIds()).containsExactly(2L);
+        verify(userRepository).findResponsesByIdIn(argThat(ids -> ids.size() == 3 && ids.containsAll(List.of(1L, 2L, 3L))));
+    }
+
+    @Test
+    void 캐시된_id_는_다시_조회하지_않는다() {
+        // given
+        when(userRepository.findResponsesByIdIn(anyCollection()))
+                .thenReturn(List.of(user(1L), user(2L)))
+                .thenReturn(List.of(user(3L)));
+        userService.getUsers(List.of(1L, 2L));
+
+        // when
+        UserBatchResponse response = userService.getUsers(List.of(2L, 3L, 1L));
+
+        // then
+        assertThat(response.getUsers()).extracting(UserResponse::getId).containsExactly(2L, 3L, 1L);
+        verify(userRepository).findResponsesByIdIn(argThat(ids -> ids.size() == 1 && ids.contains(3L)));
+    }
+
+    @Test
+    void 존재하지_않는_id_는_캐시하지_않아_다음_요청에서_다시_조회한다() {
+        // given
+        when(userRepository.findResponsesByIdIn(anyCollection())).thenReturn(List.of());
+        userService.getUsers(List.of(9L));
+
+        // when
+        userService.getUsers(List.of(9L));
+
+        // then
+        verify(userRepository, times(2)).findResponsesByIdIn(anyCollection());
+    }
+
+    @Test
+    void 최대_개수를_넘는_id_를_요청하면_조회하지_않고_예외를_던진다() {
+        // when & then
+        assertThatThrownBy(() -> userService.getUsers(List.of(1L, 2L, 3L, 4L, 5L, 6L)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("한 번에 최대 " + BATCH_MAX_IDS + "명까지 조회할 수 있습니다.");
+        verify(userRepository, never()).findResponsesByIdIn(any());
+    }
+
+    @Test
+    void 조회할_id_가_없으면_예외를_던진다() {
+        // when & then
+        assertThatThrownBy(() -> userService.getUsers(List.of()))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private UserResponse user(long id) {
+        return new UserResponse(id, "user" + id + "@test.com");
+    }
+}
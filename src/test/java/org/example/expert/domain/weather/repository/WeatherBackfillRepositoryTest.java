@@ -0,0 +1,74 @@
+package org.example.expert.domain.weather.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.weather.entity.Weather;
+import org.example.expert.domain.weather.service.WeatherService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:weather-backfill;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, WeatherBackfillRepository.class, WeatherService.class})
+class WeatherBackfillRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private WeatherBackfillRepository weatherBackfillRepository;
+
+    @Autowired
+    private WeatherService weatherService;
+
+    @Test
+    void weather_id_가_비어_있는_일정이_있는지_확인한다() {
+        // given
+        User writer = saveUser();
+        Weather sunny = entityManager.persist(new Weather("Sunny"));
+        entityManager.persist(new Todo("title", "contents", "Sunny", sunny.getId(), writer));
+        entityManager.flush();
+
+        // when & then
+        assertThat(weatherBackfillRepository.existsTodoWithoutWeatherId()).isFalse();
+
+        entityManager.persist(new Todo("title", "contents", "Cloudy", null, writer));
+        entityManager.flush();
+        assertThat(weatherBackfillRepository.existsTodoWithoutWeatherId()).isTrue();
+    }
+
+    @Test
+    void 사전_도입_이전_일정의_weather_id_를_채워_날씨_필터에_다시_걸리게_한다() {
+        // given
+        User writer = saveUser();
+        Todo sunny = entityManager.persist(new Todo("title", "contents", "Sunny", null, writer));
+        Todo cloudy = entityManager.persist(new Todo("title", "contents", "Cloudy", null, writer));
+        entityManager.flush();
+
+        // when
+        long updatedCount = weatherService.backfillTodoWeatherIds();
+
+        // then
+        assertThat(updatedCount).isEqualTo(2);
+        assertThat(weatherBackfillRepository.existsTodoWithoutWeatherId()).isFalse();
+
+        List<Long> sunnyIds = weatherService.findIdsContaining("sun");
+        entityManager.clear();
+        assertThat(sunnyIds).containsExactly(entityManager.find(Todo.class, sunny.getId()).getWeatherId());
+        assertThat(entityManager.find(Todo.class, cloudy.getId()).getWeatherId()).isNotNull();
+    }
+
+    private User saveUser() {
+        return entityManager.persist(new User("writer@test.com", "password", UserRole.ROLE_USER, "writer"));
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.expert.domain.weather.service;
+
+import org.example.expert.domain.weather.entity.Weather;
+import org.example.expert.domain.weather.repository.WeatherBackfillRepository;
+import org.example.expert.domain.weather.repository.WeatherRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WeatherServiceTest {
+
+    private final WeatherRepository weatherRepository = mock(WeatherRepository.class);
+    private final WeatherBackfillRepository weatherBackfillRepository = mock(WeatherBackfillRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    void 사전에_있는_날씨는_DB_를_조회하지_않고_id_를_반환한다() {
+        // given
+        when(weatherRepository.findAll()).thenReturn(List.of(weather(1L, "Sunny")));
+        WeatherService weatherService = weatherService(Duration.ofMinutes(1));
+
+        // when
+        Long weatherId = weatherService.getOrCreateId("Sunny");
+
+        // then
+        assertThat(weatherId).isEqualTo(1L);
+        verify(weatherRepository, never()).findByName(any());
+    }
+
+    @Test
+    void 사전에_없는_날씨는_DB_에서_찾아_사전에_추가한다() {
+        // given
+        when(weatherRepository.findAll()).thenReturn(List.of());
+        when(weatherRepository.findByName("Cloudy")).thenReturn(Optional.of(weather(2L, "Cloudy")));
+        WeatherService weatherService = weatherService(Duration.ofMinutes(1));
+
+        // when
+        weatherService.getOrCreateId("Cloudy");
+        Long weatherId = weatherService.getOrCreateId("Cloudy");
+
+        // then
+        assertThat(weatherId).isEqualTo(2L);
+        verify(weatherRepository, times(1)).findByName("Cloudy");
+        verify(weatherRepository, never()).save(any());
+    }
+
+    @Test
+    void DB_에도_없는_날씨는_새_트랜잭션에서_생성한다() {
+        // given
+        when(weatherRepository.findAll()).thenReturn(List.of());
+        when(weatherRepository.findByName("Rainy")).thenReturn(Optional.empty());
+        when(weatherRepository.save(any(Weather.class))).thenAnswer(invocation -> {
+            Weather weather = invocation.getArgument(0);
+            ReflectionTestUtils.setField(weather, "id", 3L);
+            return weather;
+        });
+        WeatherService weatherService = weatherService(Duration.ofMinutes(1));
+
+        // when
+        Long weatherId = weatherService.getOrCreateId("Rainy");
+
+        // then
+        assertThat(weatherId).isEqualTo(3L);
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    void 동시에_같은_날씨를_생성해_유니크_제약에_걸리면_먼저_생성된_id_를_반환한다() {
+        // given
+        when(weatherRepository.findAll()).thenReturn(List.of());
+        when(weatherRepository.findByName("Rainy"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(weather(4L, "Rainy")));
+        when(weatherRepository.save(any(Weather.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+        WeatherService weatherService = weatherService(Duration.ofMinutes(1));
+
+        // when
+        Long weatherId = weatherService.getOrCreateId("Rainy");
+
+        // then
+        assertThat(weatherId).isEqualTo(4L);
+    }
+
+    @Test
+    void 키워드를_대소문자_구분_없이_부분_일치하는_날씨_id_로_변환한다() {
+        // given
+        when(weatherRepository.findAll()).thenReturn(List.of(
+                weather(1L, "Sunny"), weather(2L, "Mostly Sunny"), weather(3L, "Cloudy")));
+        WeatherService weatherService = weatherService(Duration.ofMinutes(1));
+
+        // when & then
+        assertThat(weatherService.findIdsContaining("SUN")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(weatherService.findIdsContaining("snow")).isEmpty();
+    }
+
+    @Test
+    void 재적재_주기가_지나면_다른_인스턴스가_추가한_날씨도_찾는다() {
+        // given
+        when(weatherRepository.findAll())
+                .thenReturn(List.of(weather(1L, "Sunny")))
+                .thenReturn(List.of(weather(1L, "Sunny"), weather(5L, "Snowy")));
+        WeatherService weatherService = weatherService(Duration.ZERO);
+
+        // when
+        List<Long> weatherIds = weatherService.findIdsContaining("snow");
+
+        // then
+        assertThat(weatherIds).containsExactly(5L);
+    }
+
+    @Test
+    void weather_id_가_비어_있는_일정이_없으면_기동_시_백필하지_않는다() {
+        // given
+        when(weatherRepository.findAll()).thenReturn(List.of());
+        when(weatherBackfillRepository.existsTodoWithoutWeatherId()).thenReturn(false);
+        WeatherService weatherService = weatherService(Duration.ofMinutes(1));
+
+        // when
+        weatherService.backfillIfMissing();
+
+        // then
+        verify(weatherBackfillRepository, never()).saveMissingWeathers();
+        verify(weatherBackfillRepository, never()).updateTodoWeatherIds(anyLong(), anyLong());
+    }
+
+    @Test
+    void weather_id_가_비어_있는_일정이_있으면_기동_시_배치로_백필한다() {
+        // given
+        when(weatherRepository.findAll()).thenReturn(List.of());
+        when(weatherBackfillRepository.existsTodoWithoutWeatherId()).thenReturn(true);
+        when(weatherBackfillRepository.findMaxTodoId()).thenReturn(2500L);
+        WeatherService weatherService = weatherService(Duration.ofMinutes(1));
+
+        // when
+        weatherService.backfillIfMissing();
+
+        // then
+        verify(weatherBackfillRepository).saveMissingWeathers();
+        verify(weatherBackfillRepository).updateTodoWeatherIds(0L, 1000L);
+        verify(weatherBackfillRepository).updateTodoWeatherIds(1000L, 2000L);
+        verify(weatherBackfillRepository).updateTodoWeatherIds(2000L, 2500L);
+    }
+
+    private WeatherService weatherService(Duration reloadInterval) {
+        WeatherService weatherService = new WeatherService(weatherRepository, weatherBackfillRepository, transactionManager, reloadInterval, false);
+        weatherService.load();
+        return weatherService;
+    }
+
+    private Weather weather(Long id, String name) {
+        Weather weather = new Weather(name);
+        ReflectionTestUtils.setField(weather, "id", id);
+        return weather;
+    }
+}
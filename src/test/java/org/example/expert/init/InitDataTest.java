@@ -0,0 +1,98 @@
+package org.example.expert.init;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.service.EmailFilter;
+import org.example.expert.domain.user.service.NicknameIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class InitDataTest {
+
+    private final UserSeeder userSeeder = mock(UserSeeder.class);
+    private final NicknameIndex nicknameIndex = mock(NicknameIndex.class);
+    private final EmailFilter emailFilter = mock(EmailFilter.class);
+    private final InitData initData = new InitData(userSeeder, nicknameIndex, emailFilter, false, 10);
+
+    @AfterEach
+    void tearDown() {
+        initData.shutdown();
+    }
+
+    @Test
+    void 실행한_적이_없으면_IDLE_상태를_반환한다() {
+        // when
+        SeedStatusResponse status = initData.getStatus();
+
+        // then
+        assertThat(status.getState()).isEqualTo("IDLE");
+        assertThat(status.getStartedAt()).isNull();
+    }
+
+    @Test
+    void 실행_중인_작업이_없으면_취소할_수_없다() {
+        // when & then
+        assertThatThrownBy(initData::cancel)
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("실행 중인 시드 작업이 없습니다.");
+    }
+
+    @Test
+    void 실행_중에_취소하면_CANCELLED_로_끝나고_다시_시작할_수_있다() throws Exception {
+        // given - 취소가 요청될 때까지 chunk 를 만드는 것처럼 대기
+        CountDownLatch seeding = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            SeedProgress progress = invocation.getArgument(1);
+            seeding.countDown();
+            while (!progress.isCancelRequested()) {
+                Thread.sleep(10);
+            }
+            return null;
+        }).when(userSeeder).seed(anyInt(), any(SeedProgress.class));
+
+        assertThat(initData.start(null).getState()).isEqualTo("RUNNING");
+        assertThat(seeding.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> initData.start(null))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("이미 실행 중인 시드 작업이 있습니다.");
+
+        // when
+        initData.cancel();
+
+        // then
+        awaitState("CANCELLED");
+        assertThat(initData.start(5).getTotalRows()).isEqualTo(5);
+    }
+
+    @Test
+    void 시드_저장이_실패하면_FAILED_와_오류_메시지를_반환한다() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            throw new IllegalStateException("유저 데이터 저장에 실패했습니다.");
+        }).when(userSeeder).seed(anyInt(), any(SeedProgress.class));
+
+        // when
+        initData.start(null);
+
+        // then
+        awaitState("FAILED");
+        assertThat(initData.getStatus().getError()).isEqualTo("유저 데이터 저장에 실패했습니다.");
+    }
+
+    private void awaitState(String state) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!initData.getStatus().getState().equals(state) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(initData.getStatus().getState()).isEqualTo(state);
+    }
+}
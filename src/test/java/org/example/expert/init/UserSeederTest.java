@@ -0,0 +1,108 @@
+package org.example.expert.init;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserSeederTest {
+
+    private final InitDataRepository initDataRepository = mock(InitDataRepository.class);
+    private final UserSeeder userSeeder = new UserSeeder(initDataRepository, 2, 2);
+
+    // writer 스레드가 저장한 chunk 의 [from, to) 범위
+    private final List<List<Integer>> savedChunks = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            savedChunks.add(List.of(invocation.getArgument(1), invocation.getArgument(2)));
+            return null;
+        }).when(initDataRepository).saveChunk(anyList(), anyInt(), anyInt());
+    }
+
+    @Test
+    void 전체_건수를_chunk_단위로_나누어_저장한다() throws InterruptedException {
+        // given
+        when(initDataRepository.findCompletedChunks()).thenReturn(Map.of());
+        SeedProgress progress = new SeedProgress(5);
+
+        // when
+        userSeeder.seed(5, progress);
+
+        // then
+        assertThat(savedChunks).containsExactlyInAnyOrder(List.of(0, 2), List.of(2, 4), List.of(4, 5));
+        assertThat(progress.toResponse().getWrittenRows()).isEqualTo(5);
+        assertThat(progress.toResponse().getSkippedRows()).isZero();
+    }
+
+    @Test
+    void 이전_실행에서_완료된_chunk_는_건너뛰고_나머지만_저장한다() throws InterruptedException {
+        // given
+        when(initDataRepository.findCompletedChunks()).thenReturn(Map.of(0, 2, 4, 5));
+        SeedProgress progress = new SeedProgress(5);
+
+        // when
+        userSeeder.seed(5, progress);
+
+        // then
+        assertThat(savedChunks).containsExactly(List.of(2, 4));
+        assertThat(progress.toResponse().getWrittenRows()).isEqualTo(2);
+        assertThat(progress.toResponse().getSkippedRows()).isEqualTo(3);
+    }
+
+    @Test
+    void chunk_크기가_달라_범위가_맞지_않는_기록은_완료로_보지_않는다() throws InterruptedException {
+        // given - chunk-size 3 으로 실행했던 기록
+        when(initDataRepository.findCompletedChunks()).thenReturn(Map.of(0, 3));
+        SeedProgress progress = new SeedProgress(4);
+
+        // when
+        userSeeder.seed(4, progress);
+
+        // then
+        assertThat(savedChunks).containsExactlyInAnyOrder(List.of(0, 2), List.of(2, 4));
+        assertThat(progress.toResponse().getSkippedRows()).isZero();
+    }
+
+    @Test
+    void 취소가_요청되면_새_chunk_를_만들지_않는다() throws InterruptedException {
+        // given
+        when(initDataRepository.findCompletedChunks()).thenReturn(Map.of());
+        SeedProgress progress = new SeedProgress(10);
+        progress.cancel();
+
+        // when
+        userSeeder.seed(10, progress);
+
+        // then
+        verify(initDataRepository, never()).saveChunk(anyList(), anyInt(), anyInt());
+        assertThat(progress.toResponse().getWrittenRows()).isZero();
+    }
+
+    @Test
+    void writer_가_저장에_실패하면_예외를_던지고_대기하지_않는다() {
+        // given
+        when(initDataRepository.findCompletedChunks()).thenReturn(Map.of());
+        doThrow(new IllegalStateException("db down"))
+                .when(initDataRepository).saveChunk(anyList(), anyInt(), anyInt());
+
+        // when & then
+        assertThatThrownBy(() -> userSeeder.seed(100, new SeedProgress(100)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("유저 데이터 저장에 실패했습니다.");
+    }
+}